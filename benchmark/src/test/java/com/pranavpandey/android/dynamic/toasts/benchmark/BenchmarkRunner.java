@@ -0,0 +1,340 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.benchmark;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A minimal JMH style harness to measure the throughput and allocations of an operation
+ * on the JVM.
+ * <p>Each operation is warmed up before measuring so that the results reflect the warm cache
+ * paths. The results will be saved and compared with the saved baseline, if available.
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * System property for the baseline results file.
+     */
+    private static final String PROPERTY_BASELINE = "benchmark.baseline";
+
+    /**
+     * System property for the results file.
+     */
+    private static final String PROPERTY_RESULTS = "benchmark.results";
+
+    /**
+     * System property to save the results as the new baseline.
+     */
+    private static final String PROPERTY_UPDATE_BASELINE = "benchmark.updateBaseline";
+
+    /**
+     * Time to warm up each operation in nanoseconds.
+     */
+    private static final long WARMUP_NANOS = 1_000_000_000L;
+
+    /**
+     * Time to measure each operation in nanoseconds.
+     */
+    private static final long MEASURE_NANOS = 2_000_000_000L;
+
+    /**
+     * Number of operations to run in each batch.
+     */
+    private static final int BATCH_OPERATIONS = 100;
+
+    /**
+     * Header of the results file to describe its columns.
+     */
+    private static final String HEADER = "# name\tops/s\tB/op";
+
+    /**
+     * Results of the measured operations in the order they have been run.
+     */
+    private static final Map<String, Result> sResults = new LinkedHashMap<>();
+
+    /**
+     * Making default constructor private to avoid instantiation.
+     */
+    private BenchmarkRunner() { }
+
+    /**
+     * Warm up and measure the supplied operation.
+     *
+     * @param name The name of the operation.
+     * @param operation The operation to be measured.
+     *
+     * @return The result of the measured operation.
+     *
+     * @throws Exception If the operation fails.
+     */
+    public static @NonNull Result run(@NonNull String name,
+            @NonNull Operation operation) throws Exception {
+        long deadline = System.nanoTime() + WARMUP_NANOS;
+        while (System.nanoTime() < deadline) {
+            runBatch(operation);
+            operation.reset();
+        }
+
+        long operations = 0;
+        long time = 0;
+        long bytes = 0;
+        while (time < MEASURE_NANOS) {
+            long startBytes = getAllocatedBytes();
+            long start = System.nanoTime();
+            runBatch(operation);
+            time += System.nanoTime() - start;
+            bytes += getAllocatedBytes() - startBytes;
+            operations += BATCH_OPERATIONS;
+            operation.reset();
+        }
+
+        Result result = new Result(operations * 1_000_000_000d / time,
+                startAllocatedBytes() ? (double) bytes / operations : -1);
+        synchronized (sResults) {
+            sResults.put(name, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Run a batch of the supplied operation.
+     *
+     * @param operation The operation to be run.
+     *
+     * @throws Exception If the operation fails.
+     */
+    private static void runBatch(@NonNull Operation operation) throws Exception {
+        for (int i = 0; i < BATCH_OPERATIONS; i++) {
+            operation.run();
+        }
+    }
+
+    /**
+     * Enable the allocated bytes measurement for the current thread, if supported.
+     *
+     * @return {@code true} if the allocated bytes can be measured.
+     */
+    private static boolean startAllocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return false;
+        }
+
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        if (!threadBean.isThreadAllocatedMemorySupported()) {
+            return false;
+        }
+
+        if (!threadBean.isThreadAllocatedMemoryEnabled()) {
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread.
+     *
+     * @return The number of bytes allocated by the current thread.
+     *         <p>{@code 0} if it cannot be measured.
+     */
+    private static long getAllocatedBytes() {
+        if (!startAllocatedBytes()) {
+            return 0;
+        }
+
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Save the results and print them along with the difference from the baseline.
+     *
+     * @throws IOException If the results cannot be saved.
+     */
+    public static void report() throws IOException {
+        Map<String, Result> baseline = read(System.getProperty(PROPERTY_BASELINE));
+        StringBuilder report = new StringBuilder();
+
+        synchronized (sResults) {
+            for (Map.Entry<String, Result> entry : sResults.entrySet()) {
+                Result result = entry.getValue();
+                @Nullable Result previous = baseline.get(entry.getKey());
+
+                report.append(String.format(Locale.US, "%-40s %12.1f ops/s %10.1f B/op",
+                        entry.getKey(), result.getThroughput(), result.getAllocatedBytes()));
+                if (previous != null) {
+                    report.append(String.format(Locale.US, "  (%+.1f%% ops/s, %+.1f B/op)",
+                            (result.getThroughput() / previous.getThroughput() - 1) * 100,
+                            result.getAllocatedBytes() - previous.getAllocatedBytes()));
+                }
+                report.append('\n');
+            }
+
+            System.out.print(report);
+            write(System.getProperty(PROPERTY_RESULTS), sResults);
+
+            if (Boolean.getBoolean(PROPERTY_UPDATE_BASELINE)) {
+                baseline.putAll(sResults);
+                write(System.getProperty(PROPERTY_BASELINE), baseline);
+            }
+
+            sResults.clear();
+        }
+    }
+
+    /**
+     * Read the results from the supplied file.
+     *
+     * @param path The path of the results file.
+     *
+     * @return The results read from the supplied file.
+     *         <p>It will be empty if the file does not exist.
+     *
+     * @throws IOException If the results cannot be read.
+     */
+    private static @NonNull Map<String, Result> read(@Nullable String path) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        if (path == null || !new File(path).exists()) {
+            return results;
+        }
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(path))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] values = line.split("\t");
+                if (values.length == 3) {
+                    results.put(values[0], new Result(Double.parseDouble(values[1]),
+                            Double.parseDouble(values[2])));
+                }
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Write the results to the supplied file.
+     *
+     * @param path The path of the results file.
+     * @param results The results to be written.
+     *
+     * @throws IOException If the results cannot be written.
+     */
+    private static void write(@Nullable String path,
+            @NonNull Map<String, Result> results) throws IOException {
+        if (path == null) {
+            return;
+        }
+
+        File file = new File(path);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
+            writer.println(HEADER);
+            for (Map.Entry<String, Result> entry : results.entrySet()) {
+                writer.printf(Locale.US, "%s\t%.1f\t%.1f%n", entry.getKey(),
+                        entry.getValue().getThroughput(), entry.getValue().getAllocatedBytes());
+            }
+        }
+    }
+
+    /**
+     * An operation to be measured.
+     */
+    public abstract static class Operation {
+
+        /**
+         * Run the operation once.
+         *
+         * @throws Exception If the operation fails.
+         */
+        public abstract void run() throws Exception;
+
+        /**
+         * Reset the state after a batch of operations.
+         * <p>It will not be measured, override it to discard the state kept by the test
+         * environment like the shown toasts.
+         */
+        public void reset() { }
+    }
+
+    /**
+     * Result of a measured operation.
+     */
+    public static final class Result {
+
+        /**
+         * Number of operations per second.
+         */
+        private final double mThroughput;
+
+        /**
+         * Number of bytes allocated per operation.
+         */
+        private final double mAllocatedBytes;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param throughput The number of operations per second.
+         * @param allocatedBytes The number of bytes allocated per operation.
+         */
+        Result(double throughput, double allocatedBytes) {
+            this.mThroughput = throughput;
+            this.mAllocatedBytes = allocatedBytes;
+        }
+
+        /**
+         * Get the number of operations per second.
+         *
+         * @return The number of operations per second.
+         */
+        public double getThroughput() {
+            return mThroughput;
+        }
+
+        /**
+         * Get the number of bytes allocated per operation.
+         *
+         * @return The number of bytes allocated per operation.
+         *         <p>{@code -1} if it cannot be measured.
+         */
+        public double getAllocatedBytes() {
+            return mAllocatedBytes;
+        }
+    }
+}
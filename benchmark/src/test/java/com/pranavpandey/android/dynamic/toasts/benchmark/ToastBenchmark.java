@@ -0,0 +1,258 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.benchmark;
+
+import android.app.Activity;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.os.Looper;
+import android.view.View;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import androidx.annotation.NonNull;
+
+import com.pranavpandey.android.dynamic.toasts.DynamicHint;
+import com.pranavpandey.android.dynamic.toasts.DynamicToast;
+import com.pranavpandey.android.dynamic.toasts.R;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastCompat;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastView;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.Shadows;
+import org.robolectric.shadows.ShadowToast;
+
+/**
+ * Benchmarks for the toast make, draw and show paths.
+ * <p>Run them with {@code ./gradlew :benchmark:testReleaseUnitTest -Pbenchmark} and add
+ * {@code -PupdateBaseline} to save the results as the new baseline.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ToastBenchmark {
+
+    /**
+     * Text used for the toasts.
+     */
+    private static final String TEXT = "Dynamic Toasts";
+
+    /**
+     * Texts to be bound alternately, so that every draw lays out the text again.
+     */
+    private static final String[] TEXTS = { TEXT, TEXT + " 2" };
+
+    /**
+     * Size of the canvas to draw the toasts.
+     */
+    private static final int CANVAS_SIZE = 1024;
+
+    /**
+     * Activity used to make the toasts.
+     */
+    private Activity mActivity;
+
+    /**
+     * Anchor view used to show the hints.
+     */
+    private View mAnchor;
+
+    @Before
+    public void setUp() {
+        mActivity = Robolectric.buildActivity(Activity.class).setup().get();
+        mAnchor = new View(mActivity);
+        mActivity.setContentView(mAnchor);
+        Shadows.shadowOf(Looper.getMainLooper()).idle();
+    }
+
+    @After
+    public void tearDown() {
+        DynamicToast.Config.getInstance().reset();
+        DynamicHint.Config.getInstance().reset();
+        ShadowToast.reset();
+    }
+
+    @AfterClass
+    public static void report() throws Exception {
+        BenchmarkRunner.report();
+    }
+
+    /**
+     * Measure, lay out and draw the supplied view like a frame of the toast window.
+     *
+     * @param view The view to be drawn.
+     * @param canvas The canvas to draw the view.
+     */
+    private static void draw(@NonNull View view, @NonNull Canvas canvas) {
+        int spec = View.MeasureSpec.makeMeasureSpec(CANVAS_SIZE, View.MeasureSpec.AT_MOST);
+        view.measure(spec, spec);
+        view.layout(0, 0, view.getMeasuredWidth(), view.getMeasuredHeight());
+        view.draw(canvas);
+    }
+
+    @Test
+    public void make() throws Exception {
+        BenchmarkRunner.run("DynamicToast.make", new BenchmarkRunner.Operation() {
+            @Override
+            public void run() {
+                DynamicToast.make(mActivity, TEXT);
+            }
+        });
+    }
+
+    @Test
+    public void makeBuildLayout() throws Exception {
+        DynamicToast.Config.getInstance().setBuildLayout(true).apply();
+
+        BenchmarkRunner.run("DynamicToast.make (build layout)", new BenchmarkRunner.Operation() {
+            @Override
+            public void run() {
+                DynamicToast.make(mActivity, TEXT);
+            }
+        });
+    }
+
+    @Test
+    public void makeDrawView() throws Exception {
+        DynamicToast.Config.getInstance().setDrawView(true).apply();
+
+        BenchmarkRunner.run("DynamicToast.make (draw view)", new BenchmarkRunner.Operation() {
+            @Override
+            public void run() {
+                DynamicToast.make(mActivity, TEXT);
+            }
+        });
+    }
+
+    @Test
+    public void drawLayout() throws Exception {
+        final View view = DynamicToast.make(mActivity, TEXT).getView();
+        final TextView text = view.findViewById(R.id.adt_toast_text);
+        final Canvas canvas = new Canvas(Bitmap.createBitmap(
+                CANVAS_SIZE, CANVAS_SIZE, Bitmap.Config.ARGB_8888));
+
+        BenchmarkRunner.run("DynamicToast.draw (layout)", new BenchmarkRunner.Operation() {
+            private int mCount;
+
+            @Override
+            public void run() {
+                text.setText(TEXTS[mCount++ & 1]);
+                draw(view, canvas);
+            }
+        });
+    }
+
+    @Test
+    public void drawView() throws Exception {
+        DynamicToast.Config.getInstance().setDrawView(true).apply();
+
+        final ToastView view = (ToastView) DynamicToast.make(mActivity, TEXT).getView();
+        final Canvas canvas = new Canvas(Bitmap.createBitmap(
+                CANVAS_SIZE, CANVAS_SIZE, Bitmap.Config.ARGB_8888));
+
+        BenchmarkRunner.run("DynamicToast.draw (draw view)", new BenchmarkRunner.Operation() {
+            private int mCount;
+
+            @Override
+            public void run() {
+                view.setText(TEXTS[mCount++ & 1]);
+                draw(view, canvas);
+            }
+        });
+    }
+
+    @Test
+    public void makeError() throws Exception {
+        BenchmarkRunner.run("DynamicToast.makeError", new BenchmarkRunner.Operation() {
+            @Override
+            public void run() {
+                DynamicToast.makeError(mActivity, TEXT);
+            }
+        });
+    }
+
+    @Test
+    public void makeSuccess() throws Exception {
+        BenchmarkRunner.run("DynamicToast.makeSuccess", new BenchmarkRunner.Operation() {
+            @Override
+            public void run() {
+                DynamicToast.makeSuccess(mActivity, TEXT);
+            }
+        });
+    }
+
+    @Test
+    public void makeWarning() throws Exception {
+        BenchmarkRunner.run("DynamicToast.makeWarning", new BenchmarkRunner.Operation() {
+            @Override
+            public void run() {
+                DynamicToast.makeWarning(mActivity, TEXT);
+            }
+        });
+    }
+
+    @Test
+    public void makeHint() throws Exception {
+        BenchmarkRunner.run("DynamicHint.make", new BenchmarkRunner.Operation() {
+            @Override
+            public void run() {
+                DynamicHint.make(mActivity, TEXT);
+            }
+        });
+    }
+
+    @Test
+    public void showHint() throws Exception {
+        final Toast toast = DynamicHint.make(mActivity, TEXT);
+
+        BenchmarkRunner.run("DynamicHint.show", new BenchmarkRunner.Operation() {
+            @Override
+            public void run() {
+                DynamicHint.show(mAnchor, toast);
+            }
+
+            @Override
+            public void reset() {
+                ShadowToast.reset();
+            }
+        });
+    }
+
+    @Test
+    public void makeText() throws Exception {
+        BenchmarkRunner.run("ToastCompat.makeText", new BenchmarkRunner.Operation() {
+            @Override
+            public void run() {
+                ToastCompat.makeText(mActivity, TEXT, Toast.LENGTH_SHORT);
+            }
+        });
+    }
+
+    @Test
+    public void applyConfig() throws Exception {
+        BenchmarkRunner.run("DynamicToast.Config.apply", new BenchmarkRunner.Operation() {
+            @Override
+            public void run() {
+                DynamicToast.Config.getInstance().setTextSize(16).apply();
+            }
+        });
+    }
+}
@@ -19,29 +19,40 @@ package com.pranavpandey.android.dynamic.toasts;
 import android.app.Activity;
 import android.content.Context;
 import android.graphics.Color;
-import android.graphics.PorterDuff;
 import android.graphics.Rect;
 import android.graphics.Typeface;
 import android.graphics.drawable.Drawable;
-import android.util.DisplayMetrics;
+import android.util.Size;
 import android.util.TypedValue;
 import android.view.Gravity;
-import android.view.LayoutInflater;
 import android.view.View;
+import android.view.ViewGroup;
 import android.widget.ImageView;
-import android.widget.LinearLayout;
 import android.widget.TextView;
 import android.widget.Toast;
 
 import androidx.annotation.ColorInt;
+import androidx.annotation.MainThread;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import androidx.core.content.ContextCompat;
 
+import com.pranavpandey.android.dynamic.toasts.internal.ToastBackgroundCache;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastBackgroundDrawable;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastColorCache;
 import com.pranavpandey.android.dynamic.toasts.internal.ToastCompat;
-import com.pranavpandey.android.dynamic.util.DynamicColorUtils;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastDefaultIcons;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastExecutor;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastFailures;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastHintPositioner;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastIconCache;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastMeasureCache;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastMetrics;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastStyle;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastTextPrecomputer;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastTrace;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastView;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastViewPool;
 import com.pranavpandey.android.dynamic.util.DynamicDrawableUtils;
-import com.pranavpandey.android.dynamic.util.DynamicUnitUtils;
 
 /**
  * Helper class to display themed cheat sheets with icon and text by using {@link Toast}.
@@ -97,13 +108,13 @@ public class DynamicHint {
             Color.parseColor("#FFEB3B");
 
     /**
-     * Default value for the {@link #disableIcon}.
+     * Default value for the {@link Config#setDisableIcon(boolean)}.
      * <p>{@code false} to enable the toast icon.
      */
     private static final boolean ADT_DEFAULT_DISABLE_ICON = false;
 
     /**
-     * Default value for the {@link #tintIcon}.
+     * Default value for the {@link Config#setTintIcon(boolean)}.
      * <p>{@code true} to tint the toast icon.
      */
     private static final boolean ADT_DEFAULT_TINT_ICON = true;
@@ -123,100 +134,57 @@ public class DynamicHint {
     private static final @ColorInt int ADT_DEFAULT_TEXT_SIZE = -1;
 
     /**
-     * Background color for the default toast.
+     * Default value for the {@link Config#setRecycleViews(boolean)}.
+     * <p>{@code false} to create new views for every toast.
      */
-    private static @Nullable @ColorInt Integer defaultBackgroundColor = ADT_DEFAULT_BG_COLOR;
+    private static final boolean ADT_DEFAULT_RECYCLE_VIEWS = false;
 
     /**
-     * Tint color for the default toast.
+     * Default value for the {@link Config#setBuildLayout(boolean)}.
+     * <p>{@code false} to inflate the toast layout.
      */
-    private static @Nullable @ColorInt Integer defaultTintColor = ADT_DEFAULT_TINT_COLOR;
+    private static final boolean ADT_DEFAULT_BUILD_LAYOUT = false;
 
     /**
-     * Background color for the error toast.
+     * Default value for the {@link Config#setDrawView(boolean)}.
+     * <p>{@code false} to use the toast layout.
      */
-    private static @Nullable @ColorInt Integer errorBackgroundColor = ADT_DEFAULT_ERROR_BG_COLOR;
+    private static final boolean ADT_DEFAULT_DRAW_VIEW = false;
 
     /**
-     * Background color for the success toast.
+     * Default value for the {@link Config#setSchedule(boolean)}.
+     * <p>{@code false} to show the toasts through the system queue.
      */
-    private static @Nullable @ColorInt Integer successBackgroundColor =
-            ADT_DEFAULT_SUCCESS_BG_COLOR;
+    private static final boolean ADT_DEFAULT_SCHEDULE = false;
 
     /**
-     * Background color for the warning toast.
+     * Style used by the toasts.
+     * <p>It will be replaced as a whole when the customisations are applied, so that the toasts
+     * can read a consistent style without any lock.
      */
-    private static @Nullable @ColorInt Integer warningBackgroundColor =
-            ADT_DEFAULT_WARNING_BG_COLOR;
+    private static volatile @NonNull ToastStyle sStyle = getDefaultStyle();
 
     /**
-     * Custom icon for the error toast.
-     * <p>{@code null} to use the default icon.
-     */
-    private static Drawable errorIcon = null;
-
-    /**
-     * Custom icon for the success toast.
-     * <p>{@code null} to use the default icon.
-     */
-    private static Drawable successIcon = null;
-
-    /**
-     * Custom icon for the warning toast.
-     * <p>{@code null} to use the default icon.
-     */
-    private static Drawable warningIcon = null;
-
-    /**
-     * {@code true} to disable icon for all the toasts.
-     */
-    private static boolean disableIcon = ADT_DEFAULT_DISABLE_ICON;
-
-    /**
-     * {@code true} to tint icon for all the toasts.
-     */
-    private static boolean tintIcon = ADT_DEFAULT_TINT_ICON;
-
-    /**
-     * Icon size for the toast in pixels.
-     */
-    private static int iconSize = ADT_DEFAULT_ICON_SIZE;
-
-    /**
-     * Text size for the toast in SP.
-     *
-     * @see TypedValue#COMPLEX_UNIT_SP;
-     */
-    private static int textSize = ADT_DEFAULT_TEXT_SIZE;
-
-    /**
-     * Custom typeface used by the toast.
-     * <p>{@code null} to use the system typeface.
-     */
-    private static Typeface textTypeface = null;
-
-    /**
-     * Custom background used by the toast.
-     * <p>{@code null} to use the default background.
-     */
-    private static Drawable toastBackground = null;
-
-    /**
-     * Generate tint color according to the supplied color, otherwise return the default value.
-     *
-     * @param color The color to be used to generate the tint color.
-     * @param defaultColor The default value for the tint color.
+     * Returns the default style used by the toasts.
      *
-     * @return The generated tint color according to the supplied color, otherwise return the
-     *         default value.
+     * @return The default style used by the toasts.
      */
-    private static @Nullable @ColorInt Integer generateTintColor(
-            @Nullable @ColorInt Integer color, @Nullable @ColorInt Integer defaultColor) {
-        if (color != null) {
-            return DynamicColorUtils.getTintColor(color);
-        }
-
-        return defaultColor;
+    private static @NonNull ToastStyle getDefaultStyle() {
+        return new ToastStyle.Builder()
+                .setDefaultBackgroundColor(ADT_DEFAULT_BG_COLOR)
+                .setDefaultTintColor(ADT_DEFAULT_TINT_COLOR)
+                .setErrorBackgroundColor(ADT_DEFAULT_ERROR_BG_COLOR)
+                .setSuccessBackgroundColor(ADT_DEFAULT_SUCCESS_BG_COLOR)
+                .setWarningBackgroundColor(ADT_DEFAULT_WARNING_BG_COLOR)
+                .setDisableIcon(ADT_DEFAULT_DISABLE_ICON)
+                .setTintIcon(ADT_DEFAULT_TINT_ICON)
+                .setIconSize(ADT_DEFAULT_ICON_SIZE)
+                .setTextSize(ADT_DEFAULT_TEXT_SIZE)
+                .setRecycleViews(ADT_DEFAULT_RECYCLE_VIEWS)
+                .setBuildLayout(ADT_DEFAULT_BUILD_LAYOUT)
+                .setDrawView(ADT_DEFAULT_DRAW_VIEW)
+                .setSchedule(ADT_DEFAULT_SCHEDULE)
+                .build();
     }
 
     /**
@@ -230,8 +198,11 @@ public class DynamicHint {
      *         <p>Use {@link Toast#show()} to display the toast.
      */
     public static @NonNull Toast make(@NonNull Context context, @Nullable CharSequence text) {
-        return make(context, text, null, defaultTintColor,
-                defaultBackgroundColor, Toast.LENGTH_SHORT);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_DEFAULT, style, text,
+                null, style.getDefaultTintColor(),
+                style.getDefaultBackgroundColor(), Toast.LENGTH_SHORT);
     }
 
     /**
@@ -247,8 +218,10 @@ public class DynamicHint {
      */
     public static @NonNull Toast make(@NonNull Context context,
             @Nullable CharSequence text, int duration) {
-        return make(context, text, null, defaultTintColor,
-                defaultBackgroundColor, duration);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_DEFAULT, style, text,
+                null, style.getDefaultTintColor(), style.getDefaultBackgroundColor(), duration);
     }
 
     /**
@@ -262,9 +235,12 @@ public class DynamicHint {
      *         <p>Use {@link Toast#show()} to display the toast.
      */
     public static @NonNull Toast makeError(@NonNull Context context, @Nullable CharSequence text) {
-        return make(context, text, errorIcon != null ? errorIcon
-                        : ContextCompat.getDrawable(context, R.drawable.adt_ic_error),
-                generateTintColor(errorBackgroundColor, defaultTintColor), errorBackgroundColor);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_ERROR, style, text,
+                style.getErrorIcon() != null ? style.getErrorIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_error),
+                style.getErrorTintColor(), style.getErrorBackgroundColor(), Toast.LENGTH_SHORT);
     }
 
     /**
@@ -280,9 +256,12 @@ public class DynamicHint {
      */
     public static @NonNull Toast makeError(@NonNull Context context,
             @Nullable CharSequence text, int duration) {
-        return make(context, text, ContextCompat.getDrawable(context, R.drawable.adt_ic_error),
-                generateTintColor(errorBackgroundColor, defaultTintColor),
-                errorBackgroundColor, duration);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_ERROR, style, text,
+                style.getErrorIcon() != null ? style.getErrorIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_error),
+                style.getErrorTintColor(), style.getErrorBackgroundColor(), duration);
     }
 
     /**
@@ -297,9 +276,12 @@ public class DynamicHint {
      */
     public static @NonNull Toast makeSuccess(@NonNull Context context,
             @Nullable CharSequence text) {
-        return make(context, text, successIcon != null ? successIcon
-                        : ContextCompat.getDrawable(context, R.drawable.adt_ic_success),
-                generateTintColor(successBackgroundColor, defaultTintColor), successBackgroundColor);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_SUCCESS, style, text,
+                style.getSuccessIcon() != null ? style.getSuccessIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_success),
+                style.getSuccessTintColor(), style.getSuccessBackgroundColor(), Toast.LENGTH_SHORT);
     }
 
     /**
@@ -315,9 +297,12 @@ public class DynamicHint {
      */
     public static @NonNull Toast makeSuccess(@NonNull Context context,
             @Nullable CharSequence text, int duration) {
-        return make(context, text, ContextCompat.getDrawable(context, R.drawable.adt_ic_success),
-                generateTintColor(successBackgroundColor, defaultTintColor),
-                successBackgroundColor, duration);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_SUCCESS, style, text,
+                style.getSuccessIcon() != null ? style.getSuccessIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_success),
+                style.getSuccessTintColor(), style.getSuccessBackgroundColor(), duration);
     }
 
     /**
@@ -332,9 +317,12 @@ public class DynamicHint {
      */
     public static @NonNull Toast makeWarning(@NonNull Context context,
             @Nullable CharSequence text) {
-        return make(context, text, warningIcon != null ? warningIcon
-                        : ContextCompat.getDrawable(context, R.drawable.adt_ic_warning),
-                generateTintColor(warningBackgroundColor, defaultTintColor), warningBackgroundColor);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_WARNING, style, text,
+                style.getWarningIcon() != null ? style.getWarningIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_warning),
+                style.getWarningTintColor(), style.getWarningBackgroundColor(), Toast.LENGTH_SHORT);
     }
 
     /**
@@ -350,9 +338,12 @@ public class DynamicHint {
      */
     public static @NonNull Toast makeWarning(@NonNull Context context,
             @Nullable CharSequence text, int duration) {
-        return make(context, text, ContextCompat.getDrawable(context, R.drawable.adt_ic_warning),
-                generateTintColor(warningBackgroundColor, defaultTintColor),
-                warningBackgroundColor, duration);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_WARNING, style, text,
+                style.getWarningIcon() != null ? style.getWarningIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_warning),
+                style.getWarningTintColor(), style.getWarningBackgroundColor(), duration);
     }
 
     /**
@@ -368,8 +359,11 @@ public class DynamicHint {
      */
     public static @NonNull Toast make(@NonNull Context context,
             @Nullable CharSequence text, @Nullable Drawable icon) {
-        return make(context, text, icon, defaultTintColor,
-                defaultBackgroundColor, Toast.LENGTH_SHORT);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_DEFAULT, style, text,
+                icon, style.getDefaultTintColor(),
+                style.getDefaultBackgroundColor(), Toast.LENGTH_SHORT);
     }
 
     /**
@@ -386,7 +380,10 @@ public class DynamicHint {
      */
     public static @NonNull Toast make(@NonNull Context context, @Nullable CharSequence text,
             @Nullable Drawable icon, int duration) {
-        return make(context, text, icon, defaultTintColor, defaultBackgroundColor, duration);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_DEFAULT, style, text,
+                icon, style.getDefaultTintColor(), style.getDefaultBackgroundColor(), duration);
     }
 
     /**
@@ -470,65 +467,588 @@ public class DynamicHint {
     public static @NonNull Toast make(@NonNull Context context, @Nullable CharSequence text,
             @Nullable Drawable icon, @Nullable @ColorInt Integer tintColor,
             @Nullable @ColorInt Integer backgroundColor, int duration) {
+        return make(context, ToastRequest.TYPE_DEFAULT, sStyle, text,
+                icon, tintColor, backgroundColor, duration);
+    }
+
+    /**
+     * Make a standard toast that just contains a text view by using the supplied options.
+     * <p>The toast duration will be {@link Toast#LENGTH_SHORT}.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast make(@NonNull Context context,
+            @NonNull ToastOptions options, @Nullable CharSequence text) {
+        return make(context, options, text, Toast.LENGTH_SHORT);
+    }
+
+    /**
+     * Make a standard toast that just contains a text view by using the supplied options.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     * @param duration The duration for the toast, either {@link Toast#LENGTH_SHORT}
+     *                 or {@link Toast#LENGTH_LONG}.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast make(@NonNull Context context,
+            @NonNull ToastOptions options, @Nullable CharSequence text, int duration) {
+        ToastStyle style = options.merge(sStyle);
+
+        return make(context, ToastRequest.TYPE_DEFAULT, style, text,
+                null, style.getDefaultTintColor(), style.getDefaultBackgroundColor(), duration);
+    }
+
+    /**
+     * Make a error toast with icon and the text by using the supplied options.
+     * <p>The toast duration will be {@link Toast#LENGTH_SHORT}.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast makeError(@NonNull Context context,
+            @NonNull ToastOptions options, @Nullable CharSequence text) {
+        return makeError(context, options, text, Toast.LENGTH_SHORT);
+    }
+
+    /**
+     * Make a error toast with icon and the text by using the supplied options.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     * @param duration The duration for the toast, either {@link Toast#LENGTH_SHORT}
+     *                 or {@link Toast#LENGTH_LONG}.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast makeError(@NonNull Context context,
+            @NonNull ToastOptions options, @Nullable CharSequence text, int duration) {
+        ToastStyle style = options.merge(sStyle);
+
+        return make(context, ToastRequest.TYPE_ERROR, style, text,
+                style.getErrorIcon() != null ? style.getErrorIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_error),
+                style.getErrorTintColor(), style.getErrorBackgroundColor(), duration);
+    }
+
+    /**
+     * Make a success toast with icon and the text by using the supplied options.
+     * <p>The toast duration will be {@link Toast#LENGTH_SHORT}.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast makeSuccess(@NonNull Context context,
+            @NonNull ToastOptions options, @Nullable CharSequence text) {
+        return makeSuccess(context, options, text, Toast.LENGTH_SHORT);
+    }
+
+    /**
+     * Make a success toast with icon and the text by using the supplied options.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     * @param duration The duration for the toast, either {@link Toast#LENGTH_SHORT}
+     *                 or {@link Toast#LENGTH_LONG}.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast makeSuccess(@NonNull Context context,
+            @NonNull ToastOptions options, @Nullable CharSequence text, int duration) {
+        ToastStyle style = options.merge(sStyle);
+
+        return make(context, ToastRequest.TYPE_SUCCESS, style, text,
+                style.getSuccessIcon() != null ? style.getSuccessIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_success),
+                style.getSuccessTintColor(), style.getSuccessBackgroundColor(), duration);
+    }
+
+    /**
+     * Make a warning toast with icon and the text by using the supplied options.
+     * <p>The toast duration will be {@link Toast#LENGTH_SHORT}.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast makeWarning(@NonNull Context context,
+            @NonNull ToastOptions options, @Nullable CharSequence text) {
+        return makeWarning(context, options, text, Toast.LENGTH_SHORT);
+    }
+
+    /**
+     * Make a warning toast with icon and the text by using the supplied options.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     * @param duration The duration for the toast, either {@link Toast#LENGTH_SHORT}
+     *                 or {@link Toast#LENGTH_LONG}.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast makeWarning(@NonNull Context context,
+            @NonNull ToastOptions options, @Nullable CharSequence text, int duration) {
+        ToastStyle style = options.merge(sStyle);
+
+        return make(context, ToastRequest.TYPE_WARNING, style, text,
+                style.getWarningIcon() != null ? style.getWarningIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_warning),
+                style.getWarningTintColor(), style.getWarningBackgroundColor(), duration);
+    }
+
+    /**
+     * Make a themed toast with icon and the text by using the supplied options.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     * @param icon The toast icon to show.
+     * @param duration The duration for the toast, either {@link Toast#LENGTH_SHORT}
+     *                 or {@link Toast#LENGTH_LONG}.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast make(@NonNull Context context, @NonNull ToastOptions options,
+            @Nullable CharSequence text, @Nullable Drawable icon, int duration) {
+        ToastStyle style = options.merge(sStyle);
+
+        return make(context, ToastRequest.TYPE_DEFAULT, style, text,
+                icon, style.getDefaultTintColor(), style.getDefaultBackgroundColor(), duration);
+    }
+
+    /**
+     * Make a themed toast with text, icon, background and the tint color by using the
+     * supplied options.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     * @param icon The toast icon to show.
+     * @param tintColor The toast tint color based on the toast background.
+     *                  <p>It will automatically check for the contrast to provide the
+     *                  best visibility.
+     * @param backgroundColor The toast background color.
+     * @param duration The duration for the toast, either {@link Toast#LENGTH_SHORT}
+     *                 or {@link Toast#LENGTH_LONG}.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast make(@NonNull Context context, @NonNull ToastOptions options,
+            @Nullable CharSequence text, @Nullable Drawable icon,
+            @Nullable @ColorInt Integer tintColor, @Nullable @ColorInt Integer backgroundColor,
+            int duration) {
+        return make(context, ToastRequest.TYPE_DEFAULT, options.merge(sStyle), text,
+                icon, tintColor, backgroundColor, duration);
+    }
+
+    /**
+     * Make a themed toast with text, icon, background and the tint color by using the
+     * supplied style.
+     *
+     * @param context The context to use.
+     * @param type The type of the toast to be scheduled.
+     * @param style The style to be used.
+     * @param text The text to show. Can be formatted text.
+     * @param icon The toast icon to show.
+     * @param tintColor The toast tint color based on the toast background.
+     * @param backgroundColor The toast background color.
+     * @param duration The duration for the toast, either {@link Toast#LENGTH_SHORT}
+     *                 or {@link Toast#LENGTH_LONG}.
+     *
+     * @return The toast with the supplied parameters.
+     */
+    private static @NonNull Toast make(@NonNull Context context, int type,
+            @NonNull ToastStyle style, @Nullable CharSequence text, @Nullable Drawable icon,
+            @Nullable @ColorInt Integer tintColor, @Nullable @ColorInt Integer backgroundColor,
+            int duration) {
+        boolean trace = ToastTrace.isEnabled();
+        if (trace) {
+            ToastTrace.begin("DynamicHint.make");
+        }
+
+        try {
+            return build(context, type, style, text,
+                    icon, tintColor, backgroundColor, duration);
+        } finally {
+            if (trace) {
+                ToastTrace.end();
+            }
+        }
+    }
+
+    /**
+     * Build the themed toast for the {@link #make(Context, int, ToastStyle, CharSequence,
+     * Drawable, Integer, Integer, int)} method.
+     *
+     * @param context The context to use.
+     * @param type The type of the toast to be scheduled.
+     * @param style The style to be used.
+     * @param text The text to show. Can be formatted text.
+     * @param icon The toast icon to show.
+     * @param tintColor The toast tint color based on the toast background.
+     * @param backgroundColor The toast background color.
+     * @param duration The duration for the toast, either {@link Toast#LENGTH_SHORT}
+     *                 or {@link Toast#LENGTH_LONG}.
+     *
+     * @return The toast with the supplied parameters.
+     */
+    private static @NonNull Toast build(@NonNull Context context, int type,
+            @NonNull ToastStyle style, @Nullable CharSequence text, @Nullable Drawable icon,
+            @Nullable @ColorInt Integer tintColor, @Nullable @ColorInt Integer backgroundColor,
+            int duration) {
         if (context instanceof Activity && ((Activity) context).isFinishing()) {
             context = context.getApplicationContext();
         }
 
-        @Nullable @ColorInt Integer toastTintColor = tintColor;
-        if (tintColor != null && backgroundColor != null) {
-            toastTintColor = DynamicColorUtils.getContrastColor(toastTintColor, backgroundColor);
+        boolean tint = tintColor != null;
+        @ColorInt int toastTintColor = tint ? tintColor : Color.TRANSPARENT;
+        if (tint && backgroundColor != null) {
+            toastTintColor = ToastColorCache.getContrastColor(toastTintColor, backgroundColor);
         }
 
+        @Nullable ToastMetricsListener metrics = ToastMetrics.getListener();
+        long start = metrics != null ? System.nanoTime() : 0;
+
         ToastCompat toast = new ToastCompat(context, new Toast(context));
-        View toastLayout = LayoutInflater.from(context).inflate(
-                R.layout.adt_layout_hint, new LinearLayout(context), false);
-        ImageView toastIcon = toastLayout.findViewById(R.id.adt_hint_icon);
-        TextView toastText = toastLayout.findViewById(R.id.adt_hint_text);
-
-        if (!disableIcon && icon != null) {
-            if (iconSize != ADT_DEFAULT_ICON_SIZE) {
-                toastIcon.getLayoutParams().width = iconSize;
-                toastIcon.getLayoutParams().height = iconSize;
+        if (style.isSchedule()) {
+            toast.setScheduleType(type);
+        }
+        @Nullable Drawable toastIcon = !style.isDisableIcon() ? icon : null;
+        @Nullable @ColorInt Integer textColor = tint ? toastTintColor : null;
+        View toastLayout = style.isDrawView()
+                ? drawLayout(context, style, text, toastIcon, textColor)
+                : bindLayout(context, style, text, toastIcon, textColor).getView();
+
+        if (metrics != null) {
+            long end = System.nanoTime();
+            metrics.onToastStage(ToastMetricsListener.STAGE_BIND, end - start);
+            start = end;
+        }
+
+        setBackground(context, toastLayout, style.getToastBackground(), backgroundColor);
+
+        if (metrics != null) {
+            metrics.onToastStage(ToastMetricsListener.STAGE_COLORIZE, System.nanoTime() - start);
+        }
+
+        toast.setDuration(duration);
+        toast.setView(toastLayout);
+
+        return toast;
+    }
+
+    /**
+     * Bind the supplied values to the toast layout.
+     *
+     * @param context The context to use.
+     * @param style The style to be used.
+     * @param text The text to show. Can be formatted text.
+     * @param icon The toast icon to show, {@code null} to hide the icon.
+     * @param tintColor The toast tint color, {@code null} to keep the default colors.
+     *
+     * @return The view holder for the toast layout with the supplied values.
+     */
+    private static @NonNull ToastViewPool.Holder bindLayout(@NonNull Context context,
+            @NonNull ToastStyle style, @Nullable CharSequence text,
+            @Nullable Drawable icon, @Nullable @ColorInt Integer tintColor) {
+        ToastViewPool.Holder holder = ToastViewPool.obtain(context, ToastViewPool.TYPE_HINT,
+                style.isRecycleViews(), style.isBuildLayout(), icon != null);
+        @Nullable ImageView toastIcon = holder.getIcon();
+        TextView toastText = holder.getText();
+
+        if (icon != null && toastIcon != null) {
+            ViewGroup.LayoutParams iconParams = toastIcon.getLayoutParams();
+            if (style.getIconSize() != ADT_DEFAULT_ICON_SIZE
+                    && (iconParams.width != style.getIconSize()
+                    || iconParams.height != style.getIconSize())) {
+                iconParams.width = style.getIconSize();
+                iconParams.height = style.getIconSize();
                 toastIcon.requestLayout();
             }
 
-            if (tintIcon && toastTintColor != null) {
-                toastIcon.setColorFilter(toastTintColor);
-            } else {
-                toastIcon.clearColorFilter();
-            }
-            toastIcon.setImageDrawable(icon);
-        } else {
+            setIcon(context, toastIcon, icon, style.isTintIcon() ? tintColor : null);
+        } else if (toastIcon != null) {
             toastIcon.setVisibility(View.GONE);
         }
 
-        if (textTypeface != null) {
-            toastText.setTypeface(textTypeface);
+        if (style.getTextTypeface() != null) {
+            toastText.setTypeface(style.getTextTypeface());
+        }
+        if (style.getTextSize() != ADT_DEFAULT_TEXT_SIZE) {
+            toastText.setTextSize(TypedValue.COMPLEX_UNIT_SP, style.getTextSize());
+        }
+
+        if (tintColor != null) {
+            toastText.setTextColor(tintColor);
+        }
+        ToastTextPrecomputer.setText(toastText, ToastViewPool.TYPE_HINT, text);
+
+        return holder;
+    }
+
+    /**
+     * Draw the supplied values by using a single {@link ToastView}.
+     *
+     * @param context The context to use.
+     * @param style The style to be used.
+     * @param text The text to show. Can be formatted text.
+     * @param icon The toast icon to show, {@code null} to hide the icon.
+     * @param tintColor The toast tint color, {@code null} to keep the default colors.
+     *
+     * @return The toast view with the supplied values.
+     */
+    private static @NonNull View drawLayout(@NonNull Context context,
+            @NonNull ToastStyle style, @Nullable CharSequence text,
+            @Nullable Drawable icon, @Nullable @ColorInt Integer tintColor) {
+        ToastView toastView = new ToastView(context, ToastViewPool.TYPE_HINT);
+
+        if (style.getIconSize() != ADT_DEFAULT_ICON_SIZE) {
+            toastView.setIconSize(style.getIconSize());
+        }
+        toastView.setIcon(icon, style.isTintIcon() ? tintColor : null);
+
+        if (style.getTextTypeface() != null) {
+            toastView.setTypeface(style.getTextTypeface());
         }
-        if (textSize != ADT_DEFAULT_TEXT_SIZE) {
-            toastText.setTextSize(TypedValue.COMPLEX_UNIT_SP, textSize);
+        if (style.getTextSize() != ADT_DEFAULT_TEXT_SIZE) {
+            toastView.setTextSize(TypedValue.COMPLEX_UNIT_SP, style.getTextSize());
+        }
+
+        if (tintColor != null) {
+            toastView.setTextColor(tintColor);
         }
+        toastView.setText(text);
 
-        if (toastTintColor != null) {
-            toastText.setTextColor(toastTintColor);
+        return toastView;
+    }
+
+    /**
+     * Set the background for the toast layout.
+     * <p>The default background is drawn by a {@link ToastBackgroundDrawable}, so that only
+     * its color has to be changed for a recycled layout. The {@code adt_hint_background}
+     * drawable will be colorized instead if it has been overridden by the app.
+     *
+     * @param context The context to use.
+     * @param toastLayout The toast layout to set the background.
+     * @param background The custom background, {@code null} to use the default background.
+     * @param backgroundColor The toast background color.
+     */
+    private static void setBackground(@NonNull Context context, @NonNull View toastLayout,
+            @Nullable Drawable background, @Nullable @ColorInt Integer backgroundColor) {
+        if (background != null
+                || !ToastBackgroundDrawable.isDefault(context, ToastViewPool.TYPE_HINT)) {
+            DynamicDrawableUtils.setBackground(toastLayout, ToastBackgroundCache.get(context,
+                    R.drawable.adt_hint_background, background, backgroundColor));
+        } else if (toastLayout.getBackground() instanceof ToastBackgroundDrawable
+                && ((ToastBackgroundDrawable) toastLayout.getBackground())
+                .isCompatible(context, ToastViewPool.TYPE_HINT)) {
+            ((ToastBackgroundDrawable) toastLayout.getBackground()).setColor(backgroundColor);
+        } else {
+            DynamicDrawableUtils.setBackground(toastLayout, new ToastBackgroundDrawable(
+                    context, ToastViewPool.TYPE_HINT, backgroundColor));
         }
-        toastText.setText(text);
+    }
 
-        if (toastBackground != null) {
-            DynamicDrawableUtils.setBackground(toastLayout, backgroundColor != null
-                    ? DynamicDrawableUtils.colorizeDrawable(toastBackground,
-                    backgroundColor, PorterDuff.Mode.MULTIPLY) : toastBackground);
+    /**
+     * Set the icon tinted with the supplied color by using the {@link ToastIconCache}.
+     *
+     * @param context The context to use.
+     * @param iconView The icon view to set the icon.
+     * @param icon The icon to be set.
+     * @param tintColor The color to tint the icon.
+     *                  <p>Pass {@code null} to keep the icon colors.
+     */
+    private static void setIcon(@NonNull Context context, @NonNull ImageView iconView,
+            @NonNull Drawable icon, @Nullable @ColorInt Integer tintColor) {
+        ViewGroup.LayoutParams params = iconView.getLayoutParams();
+        @Nullable Drawable cachedIcon = ToastIconCache.get(
+                context, icon, tintColor, params.width, params.height);
+        if (cachedIcon != null || tintColor == null) {
+            iconView.clearColorFilter();
         } else {
-            DynamicDrawableUtils.setBackground(toastLayout, backgroundColor != null
-                    ? DynamicDrawableUtils.colorizeDrawable(ContextCompat.getDrawable(context,
-                    R.drawable.adt_hint_background), backgroundColor, PorterDuff.Mode.MULTIPLY)
-                    : ContextCompat.getDrawable(context, R.drawable.adt_hint_background));
+            iconView.setColorFilter(tintColor);
         }
 
-        toast.setDuration(duration);
-        toast.setView(toastLayout);
+        iconView.setImageDrawable(cachedIcon != null ? cachedIcon : icon);
+    }
 
-        return toast;
+    /**
+     * Set the icon for a default toast made with the supplied options without making
+     * the toast again.
+     *
+     * @param view The icon view or the {@link ToastView} of the toast.
+     * @param options The options used to make the toast.
+     * @param icon The icon to be set.
+     */
+    static void bindIcon(@NonNull View view,
+            @NonNull ToastOptions options, @NonNull Drawable icon) {
+        ToastStyle style = options.merge(sStyle);
+        @Nullable @ColorInt Integer tintColor = style.getDefaultTintColor();
+        @Nullable @ColorInt Integer backgroundColor = style.getDefaultBackgroundColor();
+        if (tintColor != null && backgroundColor != null) {
+            tintColor = ToastColorCache.getContrastColor(tintColor, backgroundColor);
+        }
+
+        if (view instanceof ToastView) {
+            if (!style.isDisableIcon()) {
+                ((ToastView) view).setIcon(icon, style.isTintIcon() ? tintColor : null);
+            }
+        } else if (view instanceof ImageView) {
+            setIcon(view.getContext(), (ImageView) view,
+                    icon, style.isTintIcon() ? tintColor : null);
+        }
+    }
+
+    /**
+     * Prepare the resources on a background thread so that the first toast can be displayed
+     * as fast as the subsequent ones.
+     * <p>It will load the default icons, colorize the custom backgrounds and pool the views for
+     * the context theme. It can be called at the app startup or before displaying the toasts.
+     * <p>The views are pooled only if they are recycled and only for the theme of the supplied
+     * context, so call it with the activity to prewarm the views for the toasts made with
+     * that activity.
+     *
+     * @param context The context to use.
+     *
+     * @see DynamicToastsInitializer
+     */
+    public static void prewarm(@NonNull final Context context) {
+        final ToastStyle style = sStyle;
+        final Integer[] backgroundColors = new Integer[] {
+                style.getDefaultBackgroundColor(), style.getErrorBackgroundColor(),
+                style.getSuccessBackgroundColor(), style.getWarningBackgroundColor() };
+
+        ToastExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                ToastDefaultIcons.get(context, R.drawable.adt_ic_error);
+                ToastDefaultIcons.get(context, R.drawable.adt_ic_success);
+                ToastDefaultIcons.get(context, R.drawable.adt_ic_warning);
+                if (style.getToastBackground() != null
+                        || !ToastBackgroundDrawable.isDefault(context, ToastViewPool.TYPE_HINT)) {
+                    for (Integer backgroundColor : backgroundColors) {
+                        ToastBackgroundCache.get(context, R.drawable.adt_hint_background,
+                                style.getToastBackground(), backgroundColor);
+                    }
+                }
+
+                if (style.isRecycleViews()) {
+                    ToastViewPool.prewarm(context,
+                            ToastViewPool.TYPE_HINT, style.isBuildLayout());
+                }
+            }
+        });
+    }
+
+    /**
+     * Measure the supplied text for the toast by using the text typeface and size of the
+     * supplied options, so that the toast can be made without measuring it again.
+     * <p>It should be called on a background thread and the returned text can be passed to
+     * any method to make the toast.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     *                <p>Pass {@code null} to use the global configuration.
+     * @param text The text to be measured. Can be formatted text.
+     *
+     * @return The precomputed text, or the supplied text if it is empty.
+     *
+     * @see ToastRequest.Builder#setPrecompute(boolean)
+     */
+    public static @Nullable CharSequence precompute(@NonNull Context context,
+            @Nullable ToastOptions options, @Nullable CharSequence text) {
+        ToastStyle style = options != null ? options.merge(sStyle) : sStyle;
+
+        return ToastTextPrecomputer.precompute(context, ToastViewPool.TYPE_HINT,
+                style.isBuildLayout(), style.getTextTypeface(), style.getTextSize(), text);
+    }
+
+    /**
+     * Returns the number of failures for the supplied type while showing the toasts.
+     * <p>The failures are counted for both the {@link DynamicToast} and {@link DynamicHint}.
+     *
+     * @param type The type of the failure.
+     *
+     * @return The number of failures for the supplied type while showing the toasts.
+     *
+     * @throws IllegalArgumentException If the supplied type is not a failure type.
+     *
+     * @see ToastFailureListener#FAILURE_BAD_TOKEN
+     * @see ToastFailureListener#FAILURE_ADD_VIEW
+     * @see ToastFailureListener#FAILURE_CONTEXT_FIX
+     */
+    public static long getFailureCount(int type) {
+        return ToastFailures.getCount(type);
+    }
+
+    /**
+     * Set the listener to receive the failures while showing the toasts.
+     * <p>The sampled failures will be logged if no listener has been set.
+     *
+     * @param listener The listener to be set.
+     */
+    public static void setFailureListener(@Nullable ToastFailureListener listener) {
+        ToastFailures.setListener(listener);
+    }
+
+    /**
+     * Set the number of failures to record the stack trace for one of them.
+     * <p>The default value is {@link ToastFailures#DEFAULT_SAMPLE_RATE}.
+     *
+     * @param sampleRate The number of failures to record the stack trace for one of them.
+     *                   <p>Pass {@code 0} to never record the stack trace.
+     */
+    public static void setFailureSampleRate(int sampleRate) {
+        ToastFailures.setSampleRate(sampleRate);
+    }
+
+    /**
+     * Set the listener to receive the timings for each stage of the toast lifecycle along
+     * with the queue events.
+     * <p>There will be no overhead if no listener has been set.
+     *
+     * @param listener The listener to be set.
+     */
+    public static void setMetricsListener(@Nullable ToastMetricsListener listener) {
+        ToastMetrics.setListener(listener);
+    }
+
+    /**
+     * Set whether to add the {@link android.os.Trace} sections for the toasts.
+     * <p>The sections will be added only while the app is being traced, so that there is no
+     * overhead otherwise.
+     *
+     * @param enabled {@code true} to add the trace sections for the toasts.
+     */
+    public static void setTracingEnabled(boolean enabled) {
+        ToastTrace.setEnabled(enabled);
     }
 
     /**
@@ -544,64 +1064,68 @@ public class DynamicHint {
         /**
          * Background color for the default toast.
          */
-        private @ColorInt Integer defaultBackgroundColor = DynamicHint.defaultBackgroundColor;
+        private @ColorInt Integer defaultBackgroundColor =
+                DynamicHint.sStyle.getDefaultBackgroundColor();
 
         /**
          * Tint color for the default toast.
          */
-        private @ColorInt Integer defaultTintColor = DynamicHint.defaultTintColor;
+        private @ColorInt Integer defaultTintColor = DynamicHint.sStyle.getDefaultTintColor();
 
         /**
          * Background color for the error toast.
          */
-        private @ColorInt Integer errorBackgroundColor = DynamicHint.errorBackgroundColor;
+        private @ColorInt Integer errorBackgroundColor =
+                DynamicHint.sStyle.getErrorBackgroundColor();
 
         /**
          * Background color for the success toast.
          */
-        private @ColorInt Integer successBackgroundColor = DynamicHint.successBackgroundColor;
+        private @ColorInt Integer successBackgroundColor =
+                DynamicHint.sStyle.getSuccessBackgroundColor();
 
         /**
          * Background color for the warning toast.
          */
-        private @ColorInt Integer warningBackgroundColor = DynamicHint.warningBackgroundColor;
+        private @ColorInt Integer warningBackgroundColor =
+                DynamicHint.sStyle.getWarningBackgroundColor();
 
         /**
          * Custom icon for the error toast.
          */
-        private Drawable errorIcon = DynamicHint.errorIcon;
+        private Drawable errorIcon = DynamicHint.sStyle.getErrorIcon();
 
         /**
          * Custom icon for the success toast.
          */
-        private Drawable successIcon = DynamicHint.successIcon;
+        private Drawable successIcon = DynamicHint.sStyle.getSuccessIcon();
 
         /**
          * Custom icon for the warning toast.
          */
-        private Drawable warningIcon = DynamicHint.warningIcon;
+        private Drawable warningIcon = DynamicHint.sStyle.getWarningIcon();
 
         /**
          * {@code true} to disable icon for all the toasts.
          */
-        private boolean disableIcon = DynamicHint.disableIcon;
+        private boolean disableIcon = DynamicHint.sStyle.isDisableIcon();
 
         /**
          * {@code true} to tint icon for all the toasts.
          */
-        private boolean tintIcon = DynamicHint.tintIcon;
+        private boolean tintIcon = DynamicHint.sStyle.isTintIcon();
 
         /**
          * Icon size for the toast in pixels.
          */
-        private int iconSize = DynamicHint.iconSize;
+        private int iconSize = DynamicHint.sStyle.getIconSize();
 
         /**
          * Text size for the toast in SP.
          *
          * @see TypedValue#COMPLEX_UNIT_SP;
          */
-        private @ColorInt int textSize = DynamicHint.textSize;
+        private @ColorInt int textSize = DynamicHint.sStyle.getTextSize();
 
         /**
          * Custom text typeface used by the toast.
@@ -613,6 +1137,26 @@ public class DynamicHint {
          */
         private Drawable toastBackground = null;
 
+        /**
+         * {@code true} to recycle the views for all the toasts.
+         */
+        private boolean recycleViews = DynamicHint.sStyle.isRecycleViews();
+
+        /**
+         * {@code true} to build the layout programmatically for all the toasts.
+         */
+        private boolean buildLayout = DynamicHint.sStyle.isBuildLayout();
+
+        /**
+         * {@code true} to draw all the toasts by using a single view.
+         */
+        private boolean drawView = DynamicHint.sStyle.isDrawView();
+
+        /**
+         * {@code true} to show all the toasts one at a time according to their priority.
+         */
+        private boolean schedule = DynamicHint.sStyle.isSchedule();
+
         /**
          * Making default constructor private to avoid instantiation.
          */
@@ -623,7 +1167,7 @@ public class DynamicHint {
          *
          * @return The singleton instance of this class.
          */
-        public static @NonNull Config getInstance() {
+        public static synchronized @NonNull Config getInstance() {
             if (sInstance == null) {
                 sInstance = new Config();
             }
@@ -823,25 +1367,106 @@ public class DynamicHint {
             return this;
         }
 
+        /**
+         * Set whether to recycle the toast views.
+         * <p>The recycled views will be returned to a bounded pool once the toast has been
+         * hidden, so do not show the same toast object again after it has been hidden.
+         * <p>It is disabled by default.
+         *
+         * @param recycleViews {@code true} to recycle the views for all the toasts.
+         *
+         * @return The {@link Config} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Config setRecycleViews(boolean recycleViews) {
+            this.recycleViews = recycleViews;
+
+            return this;
+        }
+
+        /**
+         * Set whether to build the toast layout programmatically.
+         * <p>It will skip the layout inflation and omit the icon view if it is not required,
+         * but the overridden {@code adt_layout_hint} resource will not be used.
+         *
+         * @param buildLayout {@code true} to build the layout programmatically for all
+         *                    the toasts.
+         *
+         * @return The {@link Config} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Config setBuildLayout(boolean buildLayout) {
+            this.buildLayout = buildLayout;
+
+            return this;
+        }
+
+        /**
+         * Set whether to draw the toast by using a single view instead of the toast layout.
+         * <p>It will draw the background, icon and text without any child view, but the
+         * overridden {@code adt_layout_hint} resource will not be used and the views will not
+         * be recycled.
+         *
+         * @param drawView {@code true} to draw all the toasts by using a single view.
+         *
+         * @return The {@link Config} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Config setDrawView(boolean drawView) {
+            this.drawView = drawView;
+
+            return this;
+        }
+
+        /**
+         * Set whether to show the toasts one at a time according to their priority.
+         * <p>The toasts will be submitted to the {@link ToastScheduler} when they are shown,
+         * so that an error toast does not wait behind a burst of success toasts in the
+         * system queue. They are still made immediately and the latest position of a hint
+         * is used when it is submitted.
+         *
+         * @param schedule {@code true} to show all the toasts one at a time according to
+         *                 their priority.
+         *
+         * @return The {@link Config} object to allow for chaining of calls to set methods.
+         *
+         * @see ToastScheduler#setPriority(int, int)
+         */
+        public @NonNull Config setSchedule(boolean schedule) {
+            this.schedule = schedule;
+
+            return this;
+        }
+
         /**
          * Apply customisations.
          */
         public void apply() {
-            DynamicHint.defaultBackgroundColor = defaultBackgroundColor;
-            DynamicHint.defaultTintColor = defaultTintColor;
-            DynamicHint.errorBackgroundColor = errorBackgroundColor;
-            DynamicHint.successBackgroundColor = successBackgroundColor;
-            DynamicHint.warningBackgroundColor = warningBackgroundColor;
-            DynamicHint.errorIcon = errorIcon;
-            DynamicHint.successIcon = successIcon;
-            DynamicHint.warningIcon = warningIcon;
-            DynamicHint.disableIcon = disableIcon;
-            DynamicHint.tintIcon = tintIcon;
-            DynamicHint.iconSize = iconSize;
-            DynamicHint.textSize = textSize;
-            DynamicHint.textTypeface = textTypeface;
-            DynamicHint.toastBackground = toastBackground;
-
+            DynamicHint.sStyle = new ToastStyle.Builder()
+                    .setDefaultBackgroundColor(defaultBackgroundColor)
+                    .setDefaultTintColor(defaultTintColor)
+                    .setErrorBackgroundColor(errorBackgroundColor)
+                    .setSuccessBackgroundColor(successBackgroundColor)
+                    .setWarningBackgroundColor(warningBackgroundColor)
+                    .setErrorIcon(errorIcon)
+                    .setSuccessIcon(successIcon)
+                    .setWarningIcon(warningIcon)
+                    .setDisableIcon(disableIcon)
+                    .setTintIcon(tintIcon)
+                    .setIconSize(iconSize)
+                    .setTextSize(textSize)
+                    .setTextTypeface(textTypeface)
+                    .setToastBackground(toastBackground)
+                    .setRecycleViews(recycleViews)
+                    .setBuildLayout(buildLayout)
+                    .setDrawView(drawView)
+                    .setSchedule(schedule)
+                    .build();
+
+            ToastViewPool.clear();
+            ToastTextPrecomputer.clear();
+            ToastBackgroundCache.clear();
+            ToastIconCache.clear();
+            ToastDefaultIcons.clear();
+            ToastHintPositioner.clear();
+            ToastMeasureCache.clear();
             sInstance = null;
         }
 
@@ -849,25 +1474,129 @@ public class DynamicHint {
          * Reset customisations.
          */
         public void reset() {
-            DynamicHint.defaultBackgroundColor = ADT_DEFAULT_BG_COLOR;
-            DynamicHint.defaultTintColor = ADT_DEFAULT_TINT_COLOR;
-            DynamicHint.errorBackgroundColor = ADT_DEFAULT_ERROR_BG_COLOR;
-            DynamicHint.successBackgroundColor = ADT_DEFAULT_SUCCESS_BG_COLOR;
-            DynamicHint.warningBackgroundColor = ADT_DEFAULT_WARNING_BG_COLOR;
-            DynamicHint.errorIcon = null;
-            DynamicHint.successIcon = null;
-            DynamicHint.warningIcon = null;
-            DynamicHint.disableIcon = ADT_DEFAULT_DISABLE_ICON;
-            DynamicHint.tintIcon = ADT_DEFAULT_TINT_ICON;
-            DynamicHint.iconSize = ADT_DEFAULT_ICON_SIZE;
-            DynamicHint.textSize = ADT_DEFAULT_TEXT_SIZE;
-            DynamicHint.textTypeface = null;
-            DynamicHint.toastBackground = null;
-
+            DynamicHint.sStyle = getDefaultStyle();
+
+            ToastViewPool.clear();
+            ToastTextPrecomputer.clear();
+            ToastBackgroundCache.clear();
+            ToastIconCache.clear();
+            ToastDefaultIcons.clear();
+            ToastHintPositioner.clear();
+            ToastMeasureCache.clear();
             sInstance = null;
         }
     }
 
+    /**
+     * Measure the toast view without showing it.
+     * <p>The size will be reused for the same text, style and configuration. It must be
+     * called on the main thread as the cached sizes are not synchronized.
+     *
+     * @param toast The toast to be measured.
+     *
+     * @return The measured size of the toast view.
+     *         <p>It will be empty if the toast does not have a view.
+     */
+    @MainThread
+    public static @NonNull Size measure(@NonNull Toast toast) {
+        if (toast.getView() == null) {
+            return new Size(0, 0);
+        }
+
+        return measure(toast.getView());
+    }
+
+    /**
+     * Measure a themed toast with icon and the text without showing it.
+     * <p>It must be called on the main thread as the views and the cached sizes are
+     * not synchronized.
+     *
+     * @param context The context to use.
+     * @param text The text to show. Can be formatted text.
+     * @param icon The toast icon to show.
+     *
+     * @return The measured size of the toast.
+     *
+     * @see #measure(Toast)
+     */
+    @MainThread
+    public static @NonNull Size measure(@NonNull Context context,
+            @Nullable CharSequence text, @Nullable Drawable icon) {
+        ToastStyle style = sStyle;
+
+        return measure(context, style, text, icon,
+                style.getDefaultTintColor(), style.getDefaultBackgroundColor());
+    }
+
+    /**
+     * Measure a standard toast that just contains a text view without showing it.
+     * <p>It must be called on the main thread as the views and the cached sizes are
+     * not synchronized.
+     *
+     * @param context The context to use.
+     * @param text The text to show. Can be formatted text.
+     *
+     * @return The measured size of the toast.
+     *
+     * @see #measure(Toast)
+     */
+    @MainThread
+    public static @NonNull Size measure(@NonNull Context context, @Nullable CharSequence text) {
+        return measure(context, text, null);
+    }
+
+    /**
+     * Measure the supplied toast view by using the {@link ToastMeasureCache}.
+     *
+     * @param toastLayout The toast view to be measured.
+     *
+     * @return The measured size of the toast view.
+     */
+    private static @NonNull Size measure(@NonNull View toastLayout) {
+        long size = ToastMeasureCache.measure(toastLayout);
+        return new Size(ToastMeasureCache.getWidth(size), ToastMeasureCache.getHeight(size));
+    }
+
+    /**
+     * Measure a themed toast with text, icon, background and the tint color without making
+     * the toast.
+     * <p>The pooled view is returned to the pool once it has been measured.
+     *
+     * @param context The context to use.
+     * @param style The style to be used.
+     * @param text The text to show. Can be formatted text.
+     * @param icon The toast icon to show.
+     * @param tintColor The toast tint color based on the toast background.
+     * @param backgroundColor The toast background color.
+     *
+     * @return The measured size of the toast.
+     */
+    private static @NonNull Size measure(@NonNull Context context, @NonNull ToastStyle style,
+            @Nullable CharSequence text, @Nullable Drawable icon,
+            @Nullable @ColorInt Integer tintColor, @Nullable @ColorInt Integer backgroundColor) {
+        @Nullable Drawable toastIcon = !style.isDisableIcon() ? icon : null;
+        @Nullable @ColorInt Integer textColor = tintColor != null && backgroundColor != null
+                ? ToastColorCache.getContrastColor(tintColor, backgroundColor) : tintColor;
+
+        if (style.isDrawView()) {
+            View toastLayout = drawLayout(context, style, text, toastIcon, textColor);
+            setBackground(context, toastLayout, style.getToastBackground(), backgroundColor);
+
+            return measure(toastLayout);
+        }
+
+        ToastViewPool.Holder holder = bindLayout(context, style, text, toastIcon, textColor);
+        try {
+            setBackground(context, holder.getView(),
+                    style.getToastBackground(), backgroundColor);
+
+            return measure(holder.getView());
+        } finally {
+            // It will never be attached, so release it here instead of on detach.
+            ToastViewPool.release(holder);
+        }
+    }
+
     /**
      * Show toast above or below according to the anchor view position.
      *
@@ -887,26 +1616,58 @@ public class DynamicHint {
      */
     @SuppressWarnings("deprecation")
     public static void show(@NonNull View anchor, @NonNull Toast toast, int offset) {
-        Rect displayFrame = new Rect();
-        int[] screenLocation = new int[2];
-        anchor.getWindowVisibleDisplayFrame(displayFrame);
-        anchor.getLocationOnScreen(screenLocation);
+        @Nullable ToastMetricsListener metrics = ToastMetrics.getListener();
+        long start = metrics != null ? System.nanoTime() : 0;
+        boolean trace = ToastTrace.isEnabled();
+        if (trace) {
+            ToastTrace.begin("DynamicHint.show");
+        }
+
+        try {
+            position(anchor, toast, offset);
+        } finally {
+            if (trace) {
+                ToastTrace.end();
+            }
+        }
+
+        if (metrics != null) {
+            metrics.onToastStage(ToastMetricsListener.STAGE_MEASURE, System.nanoTime() - start);
+        }
+
+        toast.show();
+    }
+
+    /**
+     * Set the toast gravity to show it above or below according to the anchor view position
+     * with the default offset.
+     *
+     * @param anchor The anchor view to show the toast.
+     * @param toast The toast to be positioned.
+     */
+    static void position(@NonNull View anchor, @NonNull Toast toast) {
+        position(anchor, toast, ADT_TOAST_OFFSET);
+    }
+
+    /**
+     * Set the toast gravity to show it above or below according to the anchor view position.
+     *
+     * @param anchor The anchor view to show the toast.
+     * @param toast The toast to be positioned.
+     * @param offset The toast vertical offset in dips.
+     */
+    private static void position(@NonNull View anchor, @NonNull Toast toast, int offset) {
+        Rect displayFrame = ToastHintPositioner.getVisibleFrame(anchor);
+        int[] screenLocation = ToastHintPositioner.getLocationOnScreen(anchor);
         int anchorLeft = screenLocation[0];
         int anchorTop = Math.max(0, screenLocation[1]
-                - DynamicUnitUtils.convertDpToPixels(ADT_INSET_TOP));
-        int minAnchorHeight = DynamicUnitUtils.convertDpToPixels(ADT_MIN_ANCHOR_HEIGHT);
-        int yOffset = DynamicUnitUtils.convertDpToPixels(offset);
-
-        DisplayMetrics metrics = anchor.getResources().getDisplayMetrics();
-        int widthMeasureSpec = View.MeasureSpec.makeMeasureSpec(
-                metrics.widthPixels, View.MeasureSpec.UNSPECIFIED);
-        int heightMeasureSpec = View.MeasureSpec.makeMeasureSpec(
-                metrics.heightPixels, View.MeasureSpec.UNSPECIFIED);
-        int toastWidth = DynamicUnitUtils.convertDpToPixels(ADT_MIN_ANCHOR_HEIGHT);
+                - ToastHintPositioner.toPixels(anchor, ADT_INSET_TOP));
+        int minAnchorHeight = ToastHintPositioner.toPixels(anchor, ADT_MIN_ANCHOR_HEIGHT);
+        int yOffset = ToastHintPositioner.toPixels(anchor, offset);
 
+        int toastWidth = minAnchorHeight;
         if (toast.getView() != null) {
-            toast.getView().measure(widthMeasureSpec, heightMeasureSpec);
-            toastWidth = toast.getView().getMeasuredWidth();
+            toastWidth = ToastMeasureCache.getWidth(ToastMeasureCache.measure(toast.getView()));
         }
 
         if (anchorTop < displayFrame.top + yOffset) {
@@ -918,7 +1679,5 @@ public class DynamicHint {
                     anchorLeft + (anchor.getWidth() - toastWidth) / 2,
                     anchorTop - Math.max(minAnchorHeight, anchor.getHeight()) - yOffset);
         }
-
-        toast.show();
     }
 }
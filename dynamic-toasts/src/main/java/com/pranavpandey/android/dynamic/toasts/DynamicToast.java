@@ -19,24 +19,35 @@ package com.pranavpandey.android.dynamic.toasts;
 import android.app.Activity;
 import android.content.Context;
 import android.graphics.Color;
-import android.graphics.PorterDuff;
 import android.graphics.Typeface;
 import android.graphics.drawable.Drawable;
 import android.util.TypedValue;
-import android.view.LayoutInflater;
 import android.view.View;
+import android.view.ViewGroup;
 import android.widget.ImageView;
-import android.widget.LinearLayout;
 import android.widget.TextView;
 import android.widget.Toast;
 
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import androidx.core.content.ContextCompat;
 
+import com.pranavpandey.android.dynamic.toasts.internal.ToastBackgroundCache;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastBackgroundDrawable;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastColorCache;
 import com.pranavpandey.android.dynamic.toasts.internal.ToastCompat;
-import com.pranavpandey.android.dynamic.util.DynamicColorUtils;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastDefaultIcons;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastExecutor;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastFailures;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastHintPositioner;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastIconCache;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastMeasureCache;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastMetrics;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastStyle;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastTextPrecomputer;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastTrace;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastView;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastViewPool;
 import com.pranavpandey.android.dynamic.util.DynamicDrawableUtils;
 
 /**
@@ -76,13 +87,13 @@ public class DynamicToast {
             Color.parseColor("#FFEB3B");
 
     /**
-     * Default value for the {@link #disableIcon}.
+     * Default value for the {@link Config#setDisableIcon(boolean)}.
      * <p>{@code false} to enable the toast icon.
      */
     private static final boolean ADT_DEFAULT_DISABLE_ICON = false;
 
     /**
-     * Default value for the {@link #tintIcon}.
+     * Default value for the {@link Config#setTintIcon(boolean)}.
      * <p>{@code true} to tint the toast icon.
      */
     private static final boolean ADT_DEFAULT_TINT_ICON = true;
@@ -102,100 +113,57 @@ public class DynamicToast {
     private static final @ColorInt int ADT_DEFAULT_TEXT_SIZE = -1;
 
     /**
-     * Background color for the default toast.
+     * Default value for the {@link Config#setRecycleViews(boolean)}.
+     * <p>{@code false} to create new views for every toast.
      */
-    private static @Nullable @ColorInt Integer defaultBackgroundColor = ADT_DEFAULT_BG_COLOR;
+    private static final boolean ADT_DEFAULT_RECYCLE_VIEWS = false;
 
     /**
-     * Tint color for the default toast.
+     * Default value for the {@link Config#setBuildLayout(boolean)}.
+     * <p>{@code false} to inflate the toast layout.
      */
-    private static @Nullable @ColorInt Integer defaultTintColor = ADT_DEFAULT_TINT_COLOR;
+    private static final boolean ADT_DEFAULT_BUILD_LAYOUT = false;
 
     /**
-     * Background color for the error toast.
+     * Default value for the {@link Config#setDrawView(boolean)}.
+     * <p>{@code false} to use the toast layout.
      */
-    private static @Nullable @ColorInt Integer errorBackgroundColor = ADT_DEFAULT_ERROR_BG_COLOR;
+    private static final boolean ADT_DEFAULT_DRAW_VIEW = false;
 
     /**
-     * Background color for the success toast.
+     * Default value for the {@link Config#setSchedule(boolean)}.
+     * <p>{@code false} to show the toasts through the system queue.
      */
-    private static @Nullable @ColorInt Integer successBackgroundColor =
-            ADT_DEFAULT_SUCCESS_BG_COLOR;
+    private static final boolean ADT_DEFAULT_SCHEDULE = false;
 
     /**
-     * Background color for the warning toast.
+     * Style used by the toasts.
+     * <p>It will be replaced as a whole when the customisations are applied, so that the toasts
+     * can read a consistent style without any lock.
      */
-    private static @Nullable @ColorInt Integer warningBackgroundColor =
-            ADT_DEFAULT_WARNING_BG_COLOR;
+    private static volatile @NonNull ToastStyle sStyle = getDefaultStyle();
 
     /**
-     * Custom icon for the error toast.
-     * <p>{@code null} to use the default icon.
-     */
-    private static Drawable errorIcon = null;
-
-    /**
-     * Custom icon for the success toast.
-     * <p>{@code null} to use the default icon.
-     */
-    private static Drawable successIcon = null;
-
-    /**
-     * Custom icon for the warning toast.
-     * <p>{@code null} to use the default icon.
-     */
-    private static Drawable warningIcon = null;
-
-    /**
-     * {@code true} to disable icon for all the toasts.
-     */
-    private static boolean disableIcon = ADT_DEFAULT_DISABLE_ICON;
-
-    /**
-     * {@code true} to tint icon for all the toasts.
-     */
-    private static boolean tintIcon = ADT_DEFAULT_TINT_ICON;
-
-    /**
-     * Icon size for the toast in pixels.
-     */
-    private static int iconSize = ADT_DEFAULT_ICON_SIZE;
-
-    /**
-     * Text size for the toast in SP.
+     * Returns the default style used by the toasts.
      *
-     * @see TypedValue#COMPLEX_UNIT_SP;
-     */
-    private static int textSize = ADT_DEFAULT_TEXT_SIZE;
-
-    /**
-     * Custom typeface used by the toast.
-     * <p>{@code null} to use the system typeface.
-     */
-    private static Typeface textTypeface = null;
-
-    /**
-     * Custom background used by the toast.
-     * <p>{@code null} to use the default background.
+     * @return The default style used by the toasts.
      */
-    private static Drawable toastBackground = null;
-
-    /**
-     * Generate tint color according to the supplied color, otherwise return the default value.
-     *
-     * @param color The color to be used to generate the tint color.
-     * @param defaultColor The default value for the tint color.
-     *
-     * @return The generated tint color according to the supplied color, otherwise return the
-     *         default value.
-     */
-    private static @Nullable @ColorInt Integer generateTintColor(
-            @Nullable @ColorInt Integer color, @Nullable @ColorInt Integer defaultColor) {
-        if (color != null) {
-            return DynamicColorUtils.getTintColor(color);
-        }
-
-        return defaultColor;
+    private static @NonNull ToastStyle getDefaultStyle() {
+        return new ToastStyle.Builder()
+                .setDefaultBackgroundColor(ADT_DEFAULT_BG_COLOR)
+                .setDefaultTintColor(ADT_DEFAULT_TINT_COLOR)
+                .setErrorBackgroundColor(ADT_DEFAULT_ERROR_BG_COLOR)
+                .setSuccessBackgroundColor(ADT_DEFAULT_SUCCESS_BG_COLOR)
+                .setWarningBackgroundColor(ADT_DEFAULT_WARNING_BG_COLOR)
+                .setDisableIcon(ADT_DEFAULT_DISABLE_ICON)
+                .setTintIcon(ADT_DEFAULT_TINT_ICON)
+                .setIconSize(ADT_DEFAULT_ICON_SIZE)
+                .setTextSize(ADT_DEFAULT_TEXT_SIZE)
+                .setRecycleViews(ADT_DEFAULT_RECYCLE_VIEWS)
+                .setBuildLayout(ADT_DEFAULT_BUILD_LAYOUT)
+                .setDrawView(ADT_DEFAULT_DRAW_VIEW)
+                .setSchedule(ADT_DEFAULT_SCHEDULE)
+                .build();
     }
 
     /**
@@ -209,8 +177,11 @@ public class DynamicToast {
      *         <p>Use {@link Toast#show()} to display the toast.
      */
     public static @NonNull Toast make(@NonNull Context context, @Nullable CharSequence text) {
-        return make(context, text, null, defaultTintColor,
-                defaultBackgroundColor, Toast.LENGTH_SHORT);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_DEFAULT, style, text,
+                null, style.getDefaultTintColor(),
+                style.getDefaultBackgroundColor(), Toast.LENGTH_SHORT);
     }
 
     /**
@@ -226,8 +197,10 @@ public class DynamicToast {
      */
     public static @NonNull Toast make(@NonNull Context context,
             @Nullable CharSequence text, int duration) {
-        return make(context, text, null, defaultTintColor,
-                defaultBackgroundColor, duration);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_DEFAULT, style, text,
+                null, style.getDefaultTintColor(), style.getDefaultBackgroundColor(), duration);
     }
 
     /**
@@ -241,9 +214,12 @@ public class DynamicToast {
      *         <p>Use {@link Toast#show()} to display the toast.
      */
     public static @NonNull Toast makeError(@NonNull Context context, @Nullable CharSequence text) {
-        return make(context, text, errorIcon != null ? errorIcon
-                        : ContextCompat.getDrawable(context, R.drawable.adt_ic_error),
-                generateTintColor(errorBackgroundColor, defaultTintColor), errorBackgroundColor);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_ERROR, style, text,
+                style.getErrorIcon() != null ? style.getErrorIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_error),
+                style.getErrorTintColor(), style.getErrorBackgroundColor(), Toast.LENGTH_SHORT);
     }
 
     /**
@@ -259,9 +235,12 @@ public class DynamicToast {
      */
     public static @NonNull Toast makeError(@NonNull Context context,
             @Nullable CharSequence text, int duration) {
-        return make(context, text, ContextCompat.getDrawable(context, R.drawable.adt_ic_error),
-                generateTintColor(errorBackgroundColor, defaultTintColor),
-                errorBackgroundColor, duration);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_ERROR, style, text,
+                style.getErrorIcon() != null ? style.getErrorIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_error),
+                style.getErrorTintColor(), style.getErrorBackgroundColor(), duration);
     }
 
     /**
@@ -276,9 +255,12 @@ public class DynamicToast {
      */
     public static @NonNull Toast makeSuccess(@NonNull Context context,
             @Nullable CharSequence text) {
-        return make(context, text, successIcon != null ? successIcon
-                        : ContextCompat.getDrawable(context, R.drawable.adt_ic_success),
-                generateTintColor(successBackgroundColor, defaultTintColor), successBackgroundColor);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_SUCCESS, style, text,
+                style.getSuccessIcon() != null ? style.getSuccessIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_success),
+                style.getSuccessTintColor(), style.getSuccessBackgroundColor(), Toast.LENGTH_SHORT);
     }
 
     /**
@@ -294,9 +276,12 @@ public class DynamicToast {
      */
     public static @NonNull Toast makeSuccess(@NonNull Context context,
             @Nullable CharSequence text, int duration) {
-        return make(context, text, ContextCompat.getDrawable(context, R.drawable.adt_ic_success),
-                generateTintColor(successBackgroundColor, defaultTintColor),
-                successBackgroundColor, duration);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_SUCCESS, style, text,
+                style.getSuccessIcon() != null ? style.getSuccessIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_success),
+                style.getSuccessTintColor(), style.getSuccessBackgroundColor(), duration);
     }
 
     /**
@@ -311,9 +296,12 @@ public class DynamicToast {
      */
     public static @NonNull Toast makeWarning(@NonNull Context context,
             @Nullable CharSequence text) {
-        return make(context, text, warningIcon != null ? warningIcon
-                        : ContextCompat.getDrawable(context, R.drawable.adt_ic_warning),
-                generateTintColor(warningBackgroundColor, defaultTintColor), warningBackgroundColor);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_WARNING, style, text,
+                style.getWarningIcon() != null ? style.getWarningIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_warning),
+                style.getWarningTintColor(), style.getWarningBackgroundColor(), Toast.LENGTH_SHORT);
     }
 
     /**
@@ -329,9 +317,12 @@ public class DynamicToast {
      */
     public static @NonNull Toast makeWarning(@NonNull Context context,
             @Nullable CharSequence text, int duration) {
-        return make(context, text, ContextCompat.getDrawable(context, R.drawable.adt_ic_warning),
-                generateTintColor(warningBackgroundColor, defaultTintColor),
-                warningBackgroundColor, duration);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_WARNING, style, text,
+                style.getWarningIcon() != null ? style.getWarningIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_warning),
+                style.getWarningTintColor(), style.getWarningBackgroundColor(), duration);
     }
 
     /**
@@ -347,8 +338,11 @@ public class DynamicToast {
      */
     public static @NonNull Toast make(@NonNull Context context,
             @Nullable CharSequence text, @Nullable Drawable icon) {
-        return make(context, text, icon, defaultTintColor,
-                defaultBackgroundColor, Toast.LENGTH_SHORT);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_DEFAULT, style, text,
+                icon, style.getDefaultTintColor(),
+                style.getDefaultBackgroundColor(), Toast.LENGTH_SHORT);
     }
 
     /**
@@ -365,7 +359,10 @@ public class DynamicToast {
      */
     public static @NonNull Toast make(@NonNull Context context, @Nullable CharSequence text,
             @Nullable Drawable icon, int duration) {
-        return make(context, text, icon, defaultTintColor, defaultBackgroundColor, duration);
+        ToastStyle style = sStyle;
+
+        return make(context, ToastRequest.TYPE_DEFAULT, style, text,
+                icon, style.getDefaultTintColor(), style.getDefaultBackgroundColor(), duration);
     }
 
     /**
@@ -449,65 +446,630 @@ public class DynamicToast {
     public static @NonNull Toast make(@NonNull Context context, @Nullable CharSequence text,
             @Nullable Drawable icon, @Nullable @ColorInt Integer tintColor,
             @Nullable @ColorInt Integer backgroundColor, int duration) {
+        return make(context, ToastRequest.TYPE_DEFAULT, sStyle, text,
+                icon, tintColor, backgroundColor, duration);
+    }
+
+    /**
+     * Make a standard toast that just contains a text view by using the supplied options.
+     * <p>The toast duration will be {@link Toast#LENGTH_SHORT}.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast make(@NonNull Context context,
+            @NonNull ToastOptions options, @Nullable CharSequence text) {
+        return make(context, options, text, Toast.LENGTH_SHORT);
+    }
+
+    /**
+     * Make a standard toast that just contains a text view by using the supplied options.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     * @param duration The duration for the toast, either {@link Toast#LENGTH_SHORT}
+     *                 or {@link Toast#LENGTH_LONG}.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast make(@NonNull Context context,
+            @NonNull ToastOptions options, @Nullable CharSequence text, int duration) {
+        ToastStyle style = options.merge(sStyle);
+
+        return make(context, ToastRequest.TYPE_DEFAULT, style, text,
+                null, style.getDefaultTintColor(), style.getDefaultBackgroundColor(), duration);
+    }
+
+    /**
+     * Make a error toast with icon and the text by using the supplied options.
+     * <p>The toast duration will be {@link Toast#LENGTH_SHORT}.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast makeError(@NonNull Context context,
+            @NonNull ToastOptions options, @Nullable CharSequence text) {
+        return makeError(context, options, text, Toast.LENGTH_SHORT);
+    }
+
+    /**
+     * Make a error toast with icon and the text by using the supplied options.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     * @param duration The duration for the toast, either {@link Toast#LENGTH_SHORT}
+     *                 or {@link Toast#LENGTH_LONG}.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast makeError(@NonNull Context context,
+            @NonNull ToastOptions options, @Nullable CharSequence text, int duration) {
+        ToastStyle style = options.merge(sStyle);
+
+        return make(context, ToastRequest.TYPE_ERROR, style, text,
+                style.getErrorIcon() != null ? style.getErrorIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_error),
+                style.getErrorTintColor(), style.getErrorBackgroundColor(), duration);
+    }
+
+    /**
+     * Make a success toast with icon and the text by using the supplied options.
+     * <p>The toast duration will be {@link Toast#LENGTH_SHORT}.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast makeSuccess(@NonNull Context context,
+            @NonNull ToastOptions options, @Nullable CharSequence text) {
+        return makeSuccess(context, options, text, Toast.LENGTH_SHORT);
+    }
+
+    /**
+     * Make a success toast with icon and the text by using the supplied options.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     * @param duration The duration for the toast, either {@link Toast#LENGTH_SHORT}
+     *                 or {@link Toast#LENGTH_LONG}.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast makeSuccess(@NonNull Context context,
+            @NonNull ToastOptions options, @Nullable CharSequence text, int duration) {
+        ToastStyle style = options.merge(sStyle);
+
+        return make(context, ToastRequest.TYPE_SUCCESS, style, text,
+                style.getSuccessIcon() != null ? style.getSuccessIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_success),
+                style.getSuccessTintColor(), style.getSuccessBackgroundColor(), duration);
+    }
+
+    /**
+     * Make a warning toast with icon and the text by using the supplied options.
+     * <p>The toast duration will be {@link Toast#LENGTH_SHORT}.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast makeWarning(@NonNull Context context,
+            @NonNull ToastOptions options, @Nullable CharSequence text) {
+        return makeWarning(context, options, text, Toast.LENGTH_SHORT);
+    }
+
+    /**
+     * Make a warning toast with icon and the text by using the supplied options.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     * @param duration The duration for the toast, either {@link Toast#LENGTH_SHORT}
+     *                 or {@link Toast#LENGTH_LONG}.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast makeWarning(@NonNull Context context,
+            @NonNull ToastOptions options, @Nullable CharSequence text, int duration) {
+        ToastStyle style = options.merge(sStyle);
+
+        return make(context, ToastRequest.TYPE_WARNING, style, text,
+                style.getWarningIcon() != null ? style.getWarningIcon()
+                        : ToastDefaultIcons.get(context, R.drawable.adt_ic_warning),
+                style.getWarningTintColor(), style.getWarningBackgroundColor(), duration);
+    }
+
+    /**
+     * Make a themed toast with icon and the text by using the supplied options.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     * @param icon The toast icon to show.
+     * @param duration The duration for the toast, either {@link Toast#LENGTH_SHORT}
+     *                 or {@link Toast#LENGTH_LONG}.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast make(@NonNull Context context, @NonNull ToastOptions options,
+            @Nullable CharSequence text, @Nullable Drawable icon, int duration) {
+        ToastStyle style = options.merge(sStyle);
+
+        return make(context, ToastRequest.TYPE_DEFAULT, style, text,
+                icon, style.getDefaultTintColor(), style.getDefaultBackgroundColor(), duration);
+    }
+
+    /**
+     * Make a themed toast with text, icon, background and the tint color by using the
+     * supplied options.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     * @param text The text to show. Can be formatted text.
+     * @param icon The toast icon to show.
+     * @param tintColor The toast tint color based on the toast background.
+     *                  <p>It will automatically check for the contrast to provide the
+     *                  best visibility.
+     * @param backgroundColor The toast background color.
+     * @param duration The duration for the toast, either {@link Toast#LENGTH_SHORT}
+     *                 or {@link Toast#LENGTH_LONG}.
+     *
+     * @return The toast with the supplied parameters.
+     *         <p>Use {@link Toast#show()} to display the toast.
+     */
+    public static @NonNull Toast make(@NonNull Context context, @NonNull ToastOptions options,
+            @Nullable CharSequence text, @Nullable Drawable icon,
+            @Nullable @ColorInt Integer tintColor, @Nullable @ColorInt Integer backgroundColor,
+            int duration) {
+        return make(context, ToastRequest.TYPE_DEFAULT, options.merge(sStyle), text,
+                icon, tintColor, backgroundColor, duration);
+    }
+
+    /**
+     * Make a themed toast with text, icon, background and the tint color by using the
+     * supplied style.
+     *
+     * @param context The context to use.
+     * @param type The type of the toast to be scheduled.
+     * @param style The style to be used.
+     * @param text The text to show. Can be formatted text.
+     * @param icon The toast icon to show.
+     * @param tintColor The toast tint color based on the toast background.
+     * @param backgroundColor The toast background color.
+     * @param duration The duration for the toast, either {@link Toast#LENGTH_SHORT}
+     *                 or {@link Toast#LENGTH_LONG}.
+     *
+     * @return The toast with the supplied parameters.
+     */
+    private static @NonNull Toast make(@NonNull Context context, int type,
+            @NonNull ToastStyle style, @Nullable CharSequence text, @Nullable Drawable icon,
+            @Nullable @ColorInt Integer tintColor, @Nullable @ColorInt Integer backgroundColor,
+            int duration) {
+        boolean trace = ToastTrace.isEnabled();
+        if (trace) {
+            ToastTrace.begin("DynamicToast.make");
+        }
+
+        try {
+            return build(context, type, style, text,
+                    icon, tintColor, backgroundColor, duration);
+        } finally {
+            if (trace) {
+                ToastTrace.end();
+            }
+        }
+    }
+
+    /**
+     * Build the themed toast for the {@link #make(Context, int, ToastStyle, CharSequence,
+     * Drawable, Integer, Integer, int)} method.
+     *
+     * @param context The context to use.
+     * @param type The type of the toast to be scheduled.
+     * @param style The style to be used.
+     * @param text The text to show. Can be formatted text.
+     * @param icon The toast icon to show.
+     * @param tintColor The toast tint color based on the toast background.
+     * @param backgroundColor The toast background color.
+     * @param duration The duration for the toast, either {@link Toast#LENGTH_SHORT}
+     *                 or {@link Toast#LENGTH_LONG}.
+     *
+     * @return The toast with the supplied parameters.
+     */
+    private static @NonNull Toast build(@NonNull Context context, int type,
+            @NonNull ToastStyle style, @Nullable CharSequence text, @Nullable Drawable icon,
+            @Nullable @ColorInt Integer tintColor, @Nullable @ColorInt Integer backgroundColor,
+            int duration) {
         if (context instanceof Activity && ((Activity) context).isFinishing()) {
             context = context.getApplicationContext();
         }
 
-        @Nullable @ColorInt Integer toastTintColor = tintColor;
-        if (tintColor != null && backgroundColor != null) {
-            toastTintColor = DynamicColorUtils.getContrastColor(toastTintColor, backgroundColor);
+        boolean tint = tintColor != null;
+        @ColorInt int toastTintColor = tint ? tintColor : Color.TRANSPARENT;
+        if (tint && backgroundColor != null) {
+            toastTintColor = ToastColorCache.getContrastColor(toastTintColor, backgroundColor);
         }
 
+        @Nullable ToastMetricsListener metrics = ToastMetrics.getListener();
+        long start = metrics != null ? System.nanoTime() : 0;
+
         ToastCompat toast = new ToastCompat(context, new Toast(context));
-        View toastLayout = LayoutInflater.from(context).inflate(
-                R.layout.adt_layout_toast, new LinearLayout(context), false);
-        ImageView toastIcon = toastLayout.findViewById(R.id.adt_toast_icon);
-        TextView toastText = toastLayout.findViewById(R.id.adt_toast_text);
-
-        if (!disableIcon && icon != null) {
-            if (iconSize != ADT_DEFAULT_ICON_SIZE) {
-                toastIcon.getLayoutParams().width = iconSize;
-                toastIcon.getLayoutParams().height = iconSize;
+        if (style.isSchedule()) {
+            toast.setScheduleType(type);
+        }
+        @Nullable Drawable toastIcon = !style.isDisableIcon() ? icon : null;
+        @Nullable @ColorInt Integer textColor = tint ? toastTintColor : null;
+        View toastLayout = style.isDrawView()
+                ? drawLayout(context, style, text, toastIcon, textColor)
+                : bindLayout(context, style, text, toastIcon, textColor);
+
+        if (metrics != null) {
+            long end = System.nanoTime();
+            metrics.onToastStage(ToastMetricsListener.STAGE_BIND, end - start);
+            start = end;
+        }
+
+        setBackground(context, toastLayout, style.getToastBackground(), backgroundColor);
+
+        if (metrics != null) {
+            metrics.onToastStage(ToastMetricsListener.STAGE_COLORIZE, System.nanoTime() - start);
+        }
+
+        toast.setDuration(duration);
+        toast.setView(toastLayout);
+
+        return toast;
+    }
+
+    /**
+     * Bind the supplied values to the toast layout.
+     *
+     * @param context The context to use.
+     * @param style The style to be used.
+     * @param text The text to show. Can be formatted text.
+     * @param icon The toast icon to show, {@code null} to hide the icon.
+     * @param tintColor The toast tint color, {@code null} to keep the default colors.
+     *
+     * @return The toast layout with the supplied values.
+     */
+    private static @NonNull View bindLayout(@NonNull Context context,
+            @NonNull ToastStyle style, @Nullable CharSequence text,
+            @Nullable Drawable icon, @Nullable @ColorInt Integer tintColor) {
+        ToastViewPool.Holder holder = ToastViewPool.obtain(context, ToastViewPool.TYPE_TOAST,
+                style.isRecycleViews(), style.isBuildLayout(), icon != null);
+        @Nullable ImageView toastIcon = holder.getIcon();
+        TextView toastText = holder.getText();
+
+        if (icon != null && toastIcon != null) {
+            ViewGroup.LayoutParams iconParams = toastIcon.getLayoutParams();
+            if (style.getIconSize() != ADT_DEFAULT_ICON_SIZE
+                    && (iconParams.width != style.getIconSize()
+                    || iconParams.height != style.getIconSize())) {
+                iconParams.width = style.getIconSize();
+                iconParams.height = style.getIconSize();
                 toastIcon.requestLayout();
             }
 
-            if (tintIcon && toastTintColor != null) {
-                toastIcon.setColorFilter(toastTintColor);
-            } else {
-                toastIcon.clearColorFilter();
-            }
-            toastIcon.setImageDrawable(icon);
-        } else {
+            setIcon(context, toastIcon, icon, style.isTintIcon() ? tintColor : null);
+        } else if (toastIcon != null) {
             toastIcon.setVisibility(View.GONE);
         }
 
-        if (textTypeface != null) {
-            toastText.setTypeface(textTypeface);
+        if (style.getTextTypeface() != null) {
+            toastText.setTypeface(style.getTextTypeface());
+        }
+        if (style.getTextSize() != ADT_DEFAULT_TEXT_SIZE) {
+            toastText.setTextSize(TypedValue.COMPLEX_UNIT_SP, style.getTextSize());
+        }
+
+        if (tintColor != null) {
+            toastText.setTextColor(tintColor);
+        }
+        ToastTextPrecomputer.setText(toastText, ToastViewPool.TYPE_TOAST, text);
+
+        return holder.getView();
+    }
+
+    /**
+     * Draw the supplied values by using a single {@link ToastView}.
+     *
+     * @param context The context to use.
+     * @param style The style to be used.
+     * @param text The text to show. Can be formatted text.
+     * @param icon The toast icon to show, {@code null} to hide the icon.
+     * @param tintColor The toast tint color, {@code null} to keep the default colors.
+     *
+     * @return The toast view with the supplied values.
+     */
+    private static @NonNull View drawLayout(@NonNull Context context,
+            @NonNull ToastStyle style, @Nullable CharSequence text,
+            @Nullable Drawable icon, @Nullable @ColorInt Integer tintColor) {
+        ToastView toastView = new ToastView(context, ToastViewPool.TYPE_TOAST);
+
+        if (style.getIconSize() != ADT_DEFAULT_ICON_SIZE) {
+            toastView.setIconSize(style.getIconSize());
+        }
+        toastView.setIcon(icon, style.isTintIcon() ? tintColor : null);
+
+        if (style.getTextTypeface() != null) {
+            toastView.setTypeface(style.getTextTypeface());
         }
-        if (textSize != ADT_DEFAULT_TEXT_SIZE) {
-            toastText.setTextSize(TypedValue.COMPLEX_UNIT_SP, textSize);
+        if (style.getTextSize() != ADT_DEFAULT_TEXT_SIZE) {
+            toastView.setTextSize(TypedValue.COMPLEX_UNIT_SP, style.getTextSize());
         }
 
-        if (toastTintColor != null) {
-            toastText.setTextColor(toastTintColor);
+        if (tintColor != null) {
+            toastView.setTextColor(tintColor);
         }
-        toastText.setText(text);
+        toastView.setText(text);
 
-        if (toastBackground != null) {
-            DynamicDrawableUtils.setBackground(toastLayout, backgroundColor != null
-                    ? DynamicDrawableUtils.colorizeDrawable(toastBackground,
-                    backgroundColor, PorterDuff.Mode.MULTIPLY) : toastBackground);
+        return toastView;
+    }
+
+    /**
+     * Set the background for the toast layout.
+     * <p>The default background is drawn by a {@link ToastBackgroundDrawable}, so that only
+     * its color has to be changed for a recycled layout. The {@code adt_toast_background}
+     * drawable will be colorized instead if it has been overridden by the app.
+     *
+     * @param context The context to use.
+     * @param toastLayout The toast layout to set the background.
+     * @param background The custom background, {@code null} to use the default background.
+     * @param backgroundColor The toast background color.
+     */
+    private static void setBackground(@NonNull Context context, @NonNull View toastLayout,
+            @Nullable Drawable background, @Nullable @ColorInt Integer backgroundColor) {
+        if (background != null
+                || !ToastBackgroundDrawable.isDefault(context, ToastViewPool.TYPE_TOAST)) {
+            DynamicDrawableUtils.setBackground(toastLayout, ToastBackgroundCache.get(context,
+                    R.drawable.adt_toast_background, background, backgroundColor));
+        } else if (toastLayout.getBackground() instanceof ToastBackgroundDrawable
+                && ((ToastBackgroundDrawable) toastLayout.getBackground())
+                .isCompatible(context, ToastViewPool.TYPE_TOAST)) {
+            ((ToastBackgroundDrawable) toastLayout.getBackground()).setColor(backgroundColor);
         } else {
-            DynamicDrawableUtils.setBackground(toastLayout, backgroundColor != null
-                    ? DynamicDrawableUtils.colorizeDrawable(ContextCompat.getDrawable(context,
-                    R.drawable.adt_toast_background), backgroundColor, PorterDuff.Mode.MULTIPLY)
-                    : ContextCompat.getDrawable(context, R.drawable.adt_toast_background));
+            DynamicDrawableUtils.setBackground(toastLayout, new ToastBackgroundDrawable(
+                    context, ToastViewPool.TYPE_TOAST, backgroundColor));
         }
+    }
 
-        toast.setDuration(duration);
-        toast.setView(toastLayout);
+    /**
+     * Set the icon tinted with the supplied color by using the {@link ToastIconCache}.
+     *
+     * @param context The context to use.
+     * @param iconView The icon view to set the icon.
+     * @param icon The icon to be set.
+     * @param tintColor The color to tint the icon.
+     *                  <p>Pass {@code null} to keep the icon colors.
+     */
+    private static void setIcon(@NonNull Context context, @NonNull ImageView iconView,
+            @NonNull Drawable icon, @Nullable @ColorInt Integer tintColor) {
+        ViewGroup.LayoutParams params = iconView.getLayoutParams();
+        @Nullable Drawable cachedIcon = ToastIconCache.get(
+                context, icon, tintColor, params.width, params.height);
+        if (cachedIcon != null || tintColor == null) {
+            iconView.clearColorFilter();
+        } else {
+            iconView.setColorFilter(tintColor);
+        }
 
-        return toast;
+        iconView.setImageDrawable(cachedIcon != null ? cachedIcon : icon);
+    }
+
+    /**
+     * Set the icon for a default toast made with the supplied options without making
+     * the toast again.
+     *
+     * @param view The icon view or the {@link ToastView} of the toast.
+     * @param options The options used to make the toast.
+     * @param icon The icon to be set.
+     */
+    static void bindIcon(@NonNull View view,
+            @NonNull ToastOptions options, @NonNull Drawable icon) {
+        ToastStyle style = options.merge(sStyle);
+        @Nullable @ColorInt Integer tintColor = style.getDefaultTintColor();
+        @Nullable @ColorInt Integer backgroundColor = style.getDefaultBackgroundColor();
+        if (tintColor != null && backgroundColor != null) {
+            tintColor = ToastColorCache.getContrastColor(tintColor, backgroundColor);
+        }
+
+        if (view instanceof ToastView) {
+            if (!style.isDisableIcon()) {
+                ((ToastView) view).setIcon(icon, style.isTintIcon() ? tintColor : null);
+            }
+        } else if (view instanceof ImageView) {
+            setIcon(view.getContext(), (ImageView) view,
+                    icon, style.isTintIcon() ? tintColor : null);
+        }
+    }
+
+    /**
+     * Prepare the resources on a background thread so that the first toast can be displayed
+     * as fast as the subsequent ones.
+     * <p>It will load the default icons, colorize the custom backgrounds and pool the views for
+     * the context theme. It can be called at the app startup or before displaying the toasts.
+     * <p>The views are pooled only if they are recycled and only for the theme of the supplied
+     * context, so call it with the activity to prewarm the views for the toasts made with
+     * that activity.
+     *
+     * @param context The context to use.
+     *
+     * @see DynamicToastsInitializer
+     */
+    public static void prewarm(@NonNull final Context context) {
+        final ToastStyle style = sStyle;
+        final Integer[] backgroundColors = new Integer[] {
+                style.getDefaultBackgroundColor(), style.getErrorBackgroundColor(),
+                style.getSuccessBackgroundColor(), style.getWarningBackgroundColor() };
+
+        ToastExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                ToastDefaultIcons.get(context, R.drawable.adt_ic_error);
+                ToastDefaultIcons.get(context, R.drawable.adt_ic_success);
+                ToastDefaultIcons.get(context, R.drawable.adt_ic_warning);
+                if (style.getToastBackground() != null
+                        || !ToastBackgroundDrawable.isDefault(context, ToastViewPool.TYPE_TOAST)) {
+                    for (Integer backgroundColor : backgroundColors) {
+                        ToastBackgroundCache.get(context, R.drawable.adt_toast_background,
+                                style.getToastBackground(), backgroundColor);
+                    }
+                }
+
+                if (style.isRecycleViews()) {
+                    ToastViewPool.prewarm(context,
+                            ToastViewPool.TYPE_TOAST, style.isBuildLayout());
+                }
+            }
+        });
+    }
+
+    /**
+     * Measure the supplied text for the toast by using the text typeface and size of the
+     * supplied options, so that the toast can be made without measuring it again.
+     * <p>It should be called on a background thread and the returned text can be passed to
+     * any method to make the toast.
+     *
+     * @param context The context to use.
+     * @param options The options to override the global configuration for this toast.
+     *                <p>Pass {@code null} to use the global configuration.
+     * @param text The text to be measured. Can be formatted text.
+     *
+     * @return The precomputed text, or the supplied text if it is empty.
+     *
+     * @see ToastRequest.Builder#setPrecompute(boolean)
+     */
+    public static @Nullable CharSequence precompute(@NonNull Context context,
+            @Nullable ToastOptions options, @Nullable CharSequence text) {
+        ToastStyle style = options != null ? options.merge(sStyle) : sStyle;
+
+        return ToastTextPrecomputer.precompute(context, ToastViewPool.TYPE_TOAST,
+                style.isBuildLayout(), style.getTextTypeface(), style.getTextSize(), text);
+    }
+
+    /**
+     * Returns the number of failures for the supplied type while showing the toasts.
+     * <p>The failures are counted for both the {@link DynamicToast} and {@link DynamicHint}.
+     *
+     * @param type The type of the failure.
+     *
+     * @return The number of failures for the supplied type while showing the toasts.
+     *
+     * @throws IllegalArgumentException If the supplied type is not a failure type.
+     *
+     * @see ToastFailureListener#FAILURE_BAD_TOKEN
+     * @see ToastFailureListener#FAILURE_ADD_VIEW
+     * @see ToastFailureListener#FAILURE_CONTEXT_FIX
+     */
+    public static long getFailureCount(int type) {
+        return ToastFailures.getCount(type);
+    }
+
+    /**
+     * Set the listener to receive the failures while showing the toasts.
+     * <p>The sampled failures will be logged if no listener has been set.
+     *
+     * @param listener The listener to be set.
+     */
+    public static void setFailureListener(@Nullable ToastFailureListener listener) {
+        ToastFailures.setListener(listener);
+    }
+
+    /**
+     * Set the number of failures to record the stack trace for one of them.
+     * <p>The default value is {@link ToastFailures#DEFAULT_SAMPLE_RATE}.
+     *
+     * @param sampleRate The number of failures to record the stack trace for one of them.
+     *                   <p>Pass {@code 0} to never record the stack trace.
+     */
+    public static void setFailureSampleRate(int sampleRate) {
+        ToastFailures.setSampleRate(sampleRate);
+    }
+
+    /**
+     * Set the listener to receive the timings for each stage of the toast lifecycle along
+     * with the queue events.
+     * <p>There will be no overhead if no listener has been set.
+     *
+     * @param listener The listener to be set.
+     */
+    public static void setMetricsListener(@Nullable ToastMetricsListener listener) {
+        ToastMetrics.setListener(listener);
+    }
+
+    /**
+     * Returns the number of times a colorized background has been reused from the cache.
+     * <p>The backgrounds are cached for both the {@link DynamicToast} and {@link DynamicHint}.
+     *
+     * @return The number of times a colorized background has been reused from the cache.
+     */
+    public static long getBackgroundCacheHitCount() {
+        return ToastBackgroundCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of times a background has been colorized as it was not found
+     * in the cache.
+     * <p>The backgrounds are cached for both the {@link DynamicToast} and {@link DynamicHint}.
+     *
+     * @return The number of times a background has been colorized as it was not found
+     *         in the cache.
+     */
+    public static long getBackgroundCacheMissCount() {
+        return ToastBackgroundCache.getMissCount();
+    }
+
+    /**
+     * Returns the number of times a tinted icon has been reused from the cache.
+     * <p>The icons are cached for both the {@link DynamicToast} and {@link DynamicHint}.
+     *
+     * @return The number of times a tinted icon has been reused from the cache.
+     */
+    public static long getIconCacheHitCount() {
+        return ToastIconCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of times an icon has been drawn as it was not found in the cache.
+     * <p>The icons are cached for both the {@link DynamicToast} and {@link DynamicHint}.
+     *
+     * @return The number of times an icon has been drawn as it was not found in the cache.
+     */
+    public static long getIconCacheMissCount() {
+        return ToastIconCache.getMissCount();
+    }
+
+    /**
+     * Set whether to add the {@link android.os.Trace} sections for the toasts.
+     * <p>The sections will be added only while the app is being traced, so that there is no
+     * overhead otherwise.
+     *
+     * @param enabled {@code true} to add the trace sections for the toasts.
+     */
+    public static void setTracingEnabled(boolean enabled) {
+        ToastTrace.setEnabled(enabled);
     }
 
     /**
@@ -523,64 +1085,68 @@ public class DynamicToast {
         /**
          * Background color for the default toast.
          */
-        private @ColorInt Integer defaultBackgroundColor = DynamicToast.defaultBackgroundColor;
+        private @ColorInt Integer defaultBackgroundColor =
+                DynamicToast.sStyle.getDefaultBackgroundColor();
 
         /**
          * Tint color for the default toast.
          */
-        private @ColorInt Integer defaultTintColor = DynamicToast.defaultTintColor;
+        private @ColorInt Integer defaultTintColor = DynamicToast.sStyle.getDefaultTintColor();
 
         /**
          * Background color for the error toast.
          */
-        private @ColorInt Integer errorBackgroundColor = DynamicToast.errorBackgroundColor;
+        private @ColorInt Integer errorBackgroundColor =
+                DynamicToast.sStyle.getErrorBackgroundColor();
 
         /**
          * Background color for the success toast.
          */
-        private @ColorInt Integer successBackgroundColor = DynamicToast.successBackgroundColor;
+        private @ColorInt Integer successBackgroundColor =
+                DynamicToast.sStyle.getSuccessBackgroundColor();
 
         /**
          * Background color for the warning toast.
          */
-        private @ColorInt Integer warningBackgroundColor = DynamicToast.warningBackgroundColor;
+        private @ColorInt Integer warningBackgroundColor =
+                DynamicToast.sStyle.getWarningBackgroundColor();
 
         /**
          * Custom icon for the error toast.
          */
-        private Drawable errorIcon = DynamicToast.errorIcon;
+        private Drawable errorIcon = DynamicToast.sStyle.getErrorIcon();
 
         /**
          * Custom icon for the success toast.
          */
-        private Drawable successIcon = DynamicToast.successIcon;
+        private Drawable successIcon = DynamicToast.sStyle.getSuccessIcon();
 
         /**
          * Custom icon for the warning toast.
          */
-        private Drawable warningIcon = DynamicToast.warningIcon;
+        private Drawable warningIcon = DynamicToast.sStyle.getWarningIcon();
 
         /**
          * {@code true} to disable icon for all the toasts.
          */
-        private boolean disableIcon = DynamicToast.disableIcon;
+        private boolean disableIcon = DynamicToast.sStyle.isDisableIcon();
 
         /**
          * {@code true} to tint icon for all the toasts.
          */
-        private boolean tintIcon = DynamicToast.tintIcon;
+        private boolean tintIcon = DynamicToast.sStyle.isTintIcon();
 
         /**
          * Icon size for the toast in pixels.
          */
-        private int iconSize = DynamicToast.iconSize;
+        private int iconSize = DynamicToast.sStyle.getIconSize();
 
         /**
          * Text size for the toast in SP.
          *
          * @see TypedValue#COMPLEX_UNIT_SP;
          */
-        private @ColorInt int textSize = DynamicToast.textSize;
+        private @ColorInt int textSize = DynamicToast.sStyle.getTextSize();
 
         /**
          * Custom text typeface used by the toast.
@@ -592,6 +1158,26 @@ public class DynamicToast {
          */
         private Drawable toastBackground = null;
 
+        /**
+         * {@code true} to recycle the views for all the toasts.
+         */
+        private boolean recycleViews = DynamicToast.sStyle.isRecycleViews();
+
+        /**
+         * {@code true} to build the layout programmatically for all the toasts.
+         */
+        private boolean buildLayout = DynamicToast.sStyle.isBuildLayout();
+
+        /**
+         * {@code true} to draw all the toasts by using a single view.
+         */
+        private boolean drawView = DynamicToast.sStyle.isDrawView();
+
+        /**
+         * {@code true} to show all the toasts one at a time according to their priority.
+         */
+        private boolean schedule = DynamicToast.sStyle.isSchedule();
+
         /**
          * Making default constructor private to avoid instantiation.
          */
@@ -602,7 +1188,7 @@ public class DynamicToast {
          *
          * @return The singleton instance of this class.
          */
-        public static @NonNull Config getInstance() {
+        public static synchronized @NonNull Config getInstance() {
             if (sInstance == null) {
                 sInstance = new Config();
             }
@@ -802,25 +1388,106 @@ public class DynamicToast {
             return this;
         }
 
+        /**
+         * Set whether to recycle the toast views.
+         * <p>The recycled views will be returned to a bounded pool once the toast has been
+         * hidden, so do not show the same toast object again after it has been hidden.
+         * <p>It is disabled by default.
+         *
+         * @param recycleViews {@code true} to recycle the views for all the toasts.
+         *
+         * @return The {@link Config} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Config setRecycleViews(boolean recycleViews) {
+            this.recycleViews = recycleViews;
+
+            return this;
+        }
+
+        /**
+         * Set whether to build the toast layout programmatically.
+         * <p>It will skip the layout inflation and omit the icon view if it is not required,
+         * but the overridden {@code adt_layout_toast} resource will not be used.
+         *
+         * @param buildLayout {@code true} to build the layout programmatically for all
+         *                    the toasts.
+         *
+         * @return The {@link Config} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Config setBuildLayout(boolean buildLayout) {
+            this.buildLayout = buildLayout;
+
+            return this;
+        }
+
+        /**
+         * Set whether to draw the toast by using a single view instead of the toast layout.
+         * <p>It will draw the background, icon and text without any child view, but the
+         * overridden {@code adt_layout_toast} resource will not be used and the views will not
+         * be recycled.
+         *
+         * @param drawView {@code true} to draw all the toasts by using a single view.
+         *
+         * @return The {@link Config} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Config setDrawView(boolean drawView) {
+            this.drawView = drawView;
+
+            return this;
+        }
+
+        /**
+         * Set whether to show the toasts one at a time according to their priority.
+         * <p>The toasts will be submitted to the {@link ToastScheduler} when they are shown,
+         * so that an error toast does not wait behind a burst of success toasts in the
+         * system queue. They are still made immediately and the latest position of a hint
+         * is used when it is submitted.
+         *
+         * @param schedule {@code true} to show all the toasts one at a time according to
+         *                 their priority.
+         *
+         * @return The {@link Config} object to allow for chaining of calls to set methods.
+         *
+         * @see ToastScheduler#setPriority(int, int)
+         */
+        public @NonNull Config setSchedule(boolean schedule) {
+            this.schedule = schedule;
+
+            return this;
+        }
+
         /**
          * Apply customisations.
          */
         public void apply() {
-            DynamicToast.defaultBackgroundColor = defaultBackgroundColor;
-            DynamicToast.defaultTintColor = defaultTintColor;
-            DynamicToast.errorBackgroundColor = errorBackgroundColor;
-            DynamicToast.successBackgroundColor = successBackgroundColor;
-            DynamicToast.warningBackgroundColor = warningBackgroundColor;
-            DynamicToast.errorIcon = errorIcon;
-            DynamicToast.successIcon = successIcon;
-            DynamicToast.warningIcon = warningIcon;
-            DynamicToast.disableIcon = disableIcon;
-            DynamicToast.tintIcon = tintIcon;
-            DynamicToast.iconSize = iconSize;
-            DynamicToast.textSize = textSize;
-            DynamicToast.textTypeface = textTypeface;
-            DynamicToast.toastBackground = toastBackground;
-
+            DynamicToast.sStyle = new ToastStyle.Builder()
+                    .setDefaultBackgroundColor(defaultBackgroundColor)
+                    .setDefaultTintColor(defaultTintColor)
+                    .setErrorBackgroundColor(errorBackgroundColor)
+                    .setSuccessBackgroundColor(successBackgroundColor)
+                    .setWarningBackgroundColor(warningBackgroundColor)
+                    .setErrorIcon(errorIcon)
+                    .setSuccessIcon(successIcon)
+                    .setWarningIcon(warningIcon)
+                    .setDisableIcon(disableIcon)
+                    .setTintIcon(tintIcon)
+                    .setIconSize(iconSize)
+                    .setTextSize(textSize)
+                    .setTextTypeface(textTypeface)
+                    .setToastBackground(toastBackground)
+                    .setRecycleViews(recycleViews)
+                    .setBuildLayout(buildLayout)
+                    .setDrawView(drawView)
+                    .setSchedule(schedule)
+                    .build();
+
+            ToastViewPool.clear();
+            ToastTextPrecomputer.clear();
+            ToastBackgroundCache.clear();
+            ToastIconCache.clear();
+            ToastDefaultIcons.clear();
+            ToastHintPositioner.clear();
+            ToastMeasureCache.clear();
             sInstance = null;
         }
 
@@ -828,21 +1495,15 @@ public class DynamicToast {
          * Reset customisations.
          */
         public void reset() {
-            DynamicToast.defaultBackgroundColor = ADT_DEFAULT_BG_COLOR;
-            DynamicToast.defaultTintColor = ADT_DEFAULT_TINT_COLOR;
-            DynamicToast.errorBackgroundColor = ADT_DEFAULT_ERROR_BG_COLOR;
-            DynamicToast.successBackgroundColor = ADT_DEFAULT_SUCCESS_BG_COLOR;
-            DynamicToast.warningBackgroundColor = ADT_DEFAULT_WARNING_BG_COLOR;
-            DynamicToast.errorIcon = null;
-            DynamicToast.successIcon = null;
-            DynamicToast.warningIcon = null;
-            DynamicToast.disableIcon = ADT_DEFAULT_DISABLE_ICON;
-            DynamicToast.tintIcon = ADT_DEFAULT_TINT_ICON;
-            DynamicToast.iconSize = ADT_DEFAULT_ICON_SIZE;
-            DynamicToast.textSize = ADT_DEFAULT_TEXT_SIZE;
-            DynamicToast.textTypeface = null;
-            DynamicToast.toastBackground = null;
-
+            DynamicToast.sStyle = getDefaultStyle();
+
+            ToastViewPool.clear();
+            ToastTextPrecomputer.clear();
+            ToastBackgroundCache.clear();
+            ToastIconCache.clear();
+            ToastDefaultIcons.clear();
+            ToastHintPositioner.clear();
+            ToastMeasureCache.clear();
             sInstance = null;
         }
     }
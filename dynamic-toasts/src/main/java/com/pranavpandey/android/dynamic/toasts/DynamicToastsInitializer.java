@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.startup.Initializer;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An optional {@link Initializer} to prewarm the {@link DynamicToast} and {@link DynamicHint}
+ * resources at the app startup.
+ * <p>It requires the {@code androidx.startup:startup-runtime} dependency and should be declared
+ * as a {@code meta-data} of the {@code androidx.startup.InitializationProvider} in the
+ * app manifest.
+ * <p>It prewarms with the application context, so the pooled views can only be reused by the
+ * toasts made with the application context. Call the {@code prewarm(activity)} method to
+ * prewarm the views for an activity theme.
+ */
+public class DynamicToastsInitializer implements Initializer<Void> {
+
+    @Override
+    public Void create(@NonNull Context context) {
+        DynamicToast.prewarm(context);
+        DynamicHint.prewarm(context);
+
+        return null;
+    }
+
+    @Override
+    public @NonNull List<Class<? extends Initializer<?>>> dependencies() {
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,443 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.toasts.internal.ToastExecutor;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastHashTable;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastMetrics;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A dispatcher to show the {@link ToastRequest} after collapsing the identical requests and
+ * limiting the rate for each category.
+ * <p>The accepted requests will be shown by the {@link ToastScheduler}, while the merged and
+ * dropped requests will not create any toast or view.
+ * <p>Use {@link #post(Context, ToastRequest)} to submit the requests from any thread.
+ * <p>The requests to precompute their text will be measured on a background thread and
+ * submitted after the requests that have been posted meanwhile.
+ */
+public final class ToastDispatcher {
+
+    /**
+     * Default time window in milliseconds to collapse the identical requests.
+     */
+    public static final long DEFAULT_DEDUPE_WINDOW = 2000;
+
+    /**
+     * Default maximum number of toasts to be shown for each category in the rate period.
+     */
+    public static final int DEFAULT_MAX_RATE = 3;
+
+    /**
+     * Default rate period in milliseconds.
+     */
+    public static final long DEFAULT_RATE_PERIOD = 1000;
+
+    /**
+     * Lock to access the dispatcher state.
+     */
+    private static final Object sLock = new Object();
+
+    /**
+     * Capacity of the table to keep the recently shown requests.
+     */
+    private static final int RECENT_CAPACITY = 32;
+
+    /**
+     * Table to keep the expiry time for the fingerprints of the recently shown requests.
+     */
+    private static final ToastHashTable sRecent = new ToastHashTable(RECENT_CAPACITY);
+
+    /**
+     * Recently shown requests for each slot of the table, to verify the identical requests.
+     */
+    private static final ToastRequest[] sRecentRequests = new ToastRequest[RECENT_CAPACITY];
+
+    /**
+     * Start time of the current rate period for each category.
+     */
+    private static final long[] sPeriodStart = new long[ToastRequest.TYPE_COUNT * 2];
+
+    /**
+     * Number of toasts shown in the current rate period for each category.
+     */
+    private static final int[] sPeriodCount = new int[ToastRequest.TYPE_COUNT * 2];
+
+    /**
+     * Number of requests that have been queued or shown.
+     */
+    private static final AtomicLong sShown = new AtomicLong();
+
+    /**
+     * Number of requests that have been merged with an identical request.
+     */
+    private static final AtomicLong sMerged = new AtomicLong();
+
+    /**
+     * Number of requests that have been dropped due to the rate limit.
+     */
+    private static final AtomicLong sDropped = new AtomicLong();
+
+    /**
+     * Handler to drain the posted requests on the main thread.
+     */
+    private static final Handler sHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * Lock-free stack of the posted requests in the reverse order.
+     */
+    private static final AtomicReference<Node> sPending = new AtomicReference<>();
+
+    /**
+     * {@code true} if a message has been posted to drain the pending requests.
+     */
+    private static final AtomicBoolean sDrainPosted = new AtomicBoolean();
+
+    /**
+     * Runnable to drain the posted requests on the main thread.
+     */
+    private static final Runnable sDrain = new Runnable() {
+        @Override
+        public void run() {
+            drain();
+        }
+    };
+
+    /**
+     * Time window in milliseconds to collapse the identical requests.
+     */
+    private static long sDedupeWindow = DEFAULT_DEDUPE_WINDOW;
+
+    /**
+     * Maximum number of toasts to be shown for each category in the rate period.
+     */
+    private static int sMaxRate = DEFAULT_MAX_RATE;
+
+    /**
+     * Rate period in milliseconds.
+     */
+    private static long sRatePeriod = DEFAULT_RATE_PERIOD;
+
+    /**
+     * Making default constructor private to avoid instantiation.
+     */
+    private ToastDispatcher() { }
+
+    /**
+     * Submit the supplied request to the {@link ToastScheduler} if it is not identical to
+     * a recently shown request and its category is within the rate limit.
+     * <p>It must be called on the main thread.
+     *
+     * @param context The context to use.
+     * @param request The request to be shown.
+     *
+     * @return {@code true} if the request has been queued or shown.
+     *
+     * @see ToastRequest.Builder#setPrecompute(boolean)
+     */
+    public static boolean show(@NonNull Context context, @NonNull ToastRequest request) {
+        if (!accept(request)) {
+            return false;
+        }
+
+        if (request.isPrecompute()) {
+            precompute(context, request);
+            return true;
+        }
+
+        if (!ToastScheduler.submit(context, request)) {
+            forget(request);
+            return false;
+        }
+
+        sShown.incrementAndGet();
+
+        return true;
+    }
+
+    /**
+     * Post the supplied request to be shown on the main thread.
+     * <p>It can be called from any thread. The identical and rate limited requests will be
+     * discarded on the calling thread, and all the requests posted before the main thread
+     * can drain them will be submitted to the {@link ToastScheduler} in a single message.
+     *
+     * @param context The context to use.
+     *                <p>An application context should be used on the background threads.
+     * @param request The request to be shown.
+     *
+     * @return {@code true} if the request has been posted.
+     */
+    public static boolean post(@NonNull Context context, @NonNull ToastRequest request) {
+        if (!accept(request)) {
+            return false;
+        }
+
+        if (request.isPrecompute()) {
+            precompute(context, request);
+        } else {
+            enqueue(context, request);
+        }
+
+        return true;
+    }
+
+    /**
+     * Measure the text for the supplied request on a background thread and post it to be
+     * shown on the main thread.
+     *
+     * @param context The context to use.
+     * @param request The request to be shown.
+     */
+    private static void precompute(@NonNull final Context context,
+            @NonNull final ToastRequest request) {
+        ToastExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                enqueue(context, request.precompute(context));
+            }
+        });
+    }
+
+    /**
+     * Push the supplied request to the pending requests and drain them on the main thread.
+     *
+     * @param context The context to use.
+     * @param request The request to be shown.
+     */
+    private static void enqueue(@NonNull Context context, @NonNull ToastRequest request) {
+        Node node = new Node(context, request);
+        Node head;
+        do {
+            head = sPending.get();
+            node.next = head;
+        } while (!sPending.compareAndSet(head, node));
+
+        if (sDrainPosted.compareAndSet(false, true)) {
+            sHandler.post(sDrain);
+        }
+    }
+
+    /**
+     * Submit all the posted requests to the {@link ToastScheduler} in their posting order.
+     */
+    private static void drain() {
+        // Allow the producers to post another message before taking the current batch.
+        sDrainPosted.set(false);
+
+        @Nullable Node node = sPending.getAndSet(null);
+        @Nullable Node ordered = null;
+        while (node != null) {
+            Node next = node.next;
+            node.next = ordered;
+            ordered = node;
+            node = next;
+        }
+
+        for (; ordered != null; ordered = ordered.next) {
+            if (ToastScheduler.submit(ordered.context, ordered.request)) {
+                sShown.incrementAndGet();
+            } else {
+                forget(ordered.request);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the supplied request can be shown and records it.
+     * <p>The recorded request will be forgotten if it is rejected by the
+     * {@link ToastScheduler}.
+     *
+     * @param request The request to be checked.
+     *
+     * @return {@code true} if the supplied request can be shown.
+     */
+    static boolean accept(@NonNull ToastRequest request) {
+        long now = SystemClock.uptimeMillis();
+        int category = request.getCategory();
+
+        synchronized (sLock) {
+            int index = sDedupeWindow > 0 ? sRecent.indexOf(request.getFingerprint()) : -1;
+            if (index >= 0 && sRecent.valueAt(index) > now
+                    && request.isIdentical(sRecentRequests[index])) {
+                sMerged.incrementAndGet();
+                ToastMetrics.event(ToastMetricsListener.EVENT_MERGED,
+                        ToastScheduler.getPendingCount());
+                return false;
+            }
+
+            // Keyed requests replace each other, so they cannot build up a backlog.
+            if (sMaxRate > 0 && request.getKey() == null) {
+                if (now - sPeriodStart[category] >= sRatePeriod) {
+                    sPeriodStart[category] = now;
+                    sPeriodCount[category] = 0;
+                }
+
+                if (sPeriodCount[category] >= sMaxRate) {
+                    sDropped.incrementAndGet();
+                    ToastMetrics.event(ToastMetricsListener.EVENT_RATE_LIMITED,
+                            ToastScheduler.getPendingCount());
+                    return false;
+                }
+
+                sPeriodCount[category]++;
+            }
+
+            if (sDedupeWindow > 0) {
+                sRecentRequests[sRecent.put(request.getFingerprint(),
+                        now + sDedupeWindow, now)] = request;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Forget the supplied request if it has not been shown, so that it does not collapse an
+     * identical request submitted again.
+     * <p>It will be called when the request has been rejected or dropped by the
+     * {@link ToastScheduler}.
+     *
+     * @param request The request to be forgotten.
+     */
+    static void forget(@NonNull ToastRequest request) {
+        synchronized (sLock) {
+            int index = sRecent.indexOf(request.getFingerprint());
+            if (index >= 0 && request.isIdentical(sRecentRequests[index])) {
+                sRecent.setValueAt(index, 0);
+                sRecentRequests[index] = null;
+            }
+        }
+    }
+
+    /**
+     * Set the time window to collapse the identical requests.
+     *
+     * @param millis The time window in milliseconds.
+     *               <p>Pass {@code 0} to disable it.
+     */
+    public static void setDedupeWindow(long millis) {
+        synchronized (sLock) {
+            sDedupeWindow = Math.max(0, millis);
+            sRecent.clear();
+
+            for (int i = 0; i < sRecentRequests.length; i++) {
+                sRecentRequests[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Set the maximum number of toasts to be shown for each category in the supplied period.
+     * <p>The error, success, warning and default toasts or hints are the separate categories.
+     * <p>It will not be applied to the requests with a key.
+     *
+     * @param maxRate The maximum number of toasts for each category.
+     *                <p>Pass {@code 0} to disable it.
+     * @param periodMillis The rate period in milliseconds.
+     */
+    public static void setRateLimit(int maxRate, long periodMillis) {
+        synchronized (sLock) {
+            sMaxRate = Math.max(0, maxRate);
+            sRatePeriod = Math.max(0, periodMillis);
+
+            for (int i = 0; i < sPeriodCount.length; i++) {
+                sPeriodStart[i] = 0;
+                sPeriodCount[i] = 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of requests that have been queued or shown.
+     *
+     * @return The number of requests that have been queued or shown.
+     */
+    public static long getShownCount() {
+        return sShown.get();
+    }
+
+    /**
+     * Returns the number of requests that have been merged with an identical request.
+     *
+     * @return The number of requests that have been merged with an identical request.
+     */
+    public static long getMergedCount() {
+        return sMerged.get();
+    }
+
+    /**
+     * Returns the number of requests that have been dropped due to the rate limit.
+     *
+     * @return The number of requests that have been dropped due to the rate limit.
+     */
+    public static long getDroppedCount() {
+        return sDropped.get();
+    }
+
+    /**
+     * Reset all the counts for this dispatcher.
+     */
+    public static void resetCounts() {
+        sShown.set(0);
+        sMerged.set(0);
+        sDropped.set(0);
+    }
+
+    /**
+     * A node in the stack of the posted requests.
+     */
+    private static final class Node {
+
+        /**
+         * The context to make the toast.
+         */
+        final @NonNull Context context;
+
+        /**
+         * The request to be shown.
+         */
+        final @NonNull ToastRequest request;
+
+        /**
+         * The next node in the stack.
+         * <p>It is published by the atomic update of the stack head.
+         */
+        @Nullable Node next;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param context The context to make the toast.
+         * @param request The request to be shown.
+         */
+        Node(@NonNull Context context, @NonNull ToastRequest request) {
+            this.context = context;
+            this.request = request;
+        }
+    }
+}
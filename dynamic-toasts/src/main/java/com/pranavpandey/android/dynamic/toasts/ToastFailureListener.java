@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Interface to receive the failures while showing the toasts.
+ * <p>It will be called on the thread showing the toast, so it should return quickly.
+ */
+public interface ToastFailureListener {
+
+    /**
+     * Constant for the bad token exception while adding the toast window.
+     */
+    int FAILURE_BAD_TOKEN = 0;
+
+    /**
+     * Constant for any other exception while adding the toast window.
+     */
+    int FAILURE_ADD_VIEW = 1;
+
+    /**
+     * Constant for the failure to set the toast context to fix the bad token exception.
+     */
+    int FAILURE_CONTEXT_FIX = 2;
+
+    /**
+     * Total number of the failure types.
+     */
+    int FAILURE_COUNT = 3;
+
+    /**
+     * This method will be called on a toast failure.
+     *
+     * @param type The type of the failure.
+     * @param count The total number of failures for this type.
+     * @param throwable The throwable for this failure.
+     *                  <p>{@code null} if this failure has not been sampled to record
+     *                  the stack trace.
+     *
+     * @see #FAILURE_BAD_TOKEN
+     * @see #FAILURE_ADD_VIEW
+     * @see #FAILURE_CONTEXT_FIX
+     */
+    void onToastFailure(int type, long count, @Nullable Throwable throwable);
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts;
+
+/**
+ * Interface to receive the timings for each stage of the toast lifecycle along with the
+ * queue events.
+ * <p>It will be called on the thread performing the work, so it should return quickly.
+ */
+public interface ToastMetricsListener {
+
+    /**
+     * Constant for merging the {@link ToastOptions} with the global style.
+     */
+    int STAGE_STYLE = 0;
+
+    /**
+     * Constant for inflating or recycling the toast view and binding it.
+     */
+    int STAGE_BIND = 1;
+
+    /**
+     * Constant for colorizing the toast background.
+     */
+    int STAGE_COLORIZE = 2;
+
+    /**
+     * Constant for measuring and positioning the hint in {@link DynamicHint#show}.
+     */
+    int STAGE_MEASURE = 3;
+
+    /**
+     * Constant for handing off the toast to {@link android.widget.Toast#show()}.
+     */
+    int STAGE_SHOW = 4;
+
+    /**
+     * Constant when a request has been queued by the {@link ToastScheduler}.
+     */
+    int EVENT_QUEUED = 0;
+
+    /**
+     * Constant when a request has replaced the toast or request for the same key.
+     */
+    int EVENT_REPLACED = 1;
+
+    /**
+     * Constant when a request has been merged with an identical request.
+     */
+    int EVENT_MERGED = 2;
+
+    /**
+     * Constant when a request has been dropped due to the rate limit.
+     */
+    int EVENT_RATE_LIMITED = 3;
+
+    /**
+     * Constant when a request has been dropped due to the full queue.
+     */
+    int EVENT_DROPPED = 4;
+
+    /**
+     * Constant when a request has been rejected due to the full queue.
+     */
+    int EVENT_REJECTED = 5;
+
+    /**
+     * This method will be called after completing a stage of the toast lifecycle.
+     *
+     * @param stage The completed stage.
+     * @param durationNanos The time taken by the stage in nanoseconds.
+     *
+     * @see #STAGE_STYLE
+     * @see #STAGE_BIND
+     * @see #STAGE_COLORIZE
+     * @see #STAGE_MEASURE
+     * @see #STAGE_SHOW
+     */
+    void onToastStage(int stage, long durationNanos);
+
+    /**
+     * This method will be called on a queue event.
+     *
+     * @param event The queue event.
+     * @param pendingCount The number of the pending requests in the {@link ToastScheduler}.
+     *
+     * @see #EVENT_QUEUED
+     * @see #EVENT_REPLACED
+     * @see #EVENT_MERGED
+     * @see #EVENT_RATE_LIMITED
+     * @see #EVENT_DROPPED
+     * @see #EVENT_REJECTED
+     */
+    void onToastEvent(int event, int pendingCount);
+}
@@ -0,0 +1,758 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts;
+
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.util.ObjectsCompat;
+
+import com.pranavpandey.android.dynamic.toasts.internal.ToastMetrics;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastStyle;
+
+/**
+ * Immutable options to customise a single toast without changing the global configuration.
+ * <p>Only the supplied values will override the {@link DynamicToast.Config} or
+ * {@link DynamicHint.Config} customisations. The merged style is cached by this object, so
+ * it should be created once and reused for the subsequent toasts.
+ * <p>The options with the same values are equal, and the drawables created from the same
+ * resource are considered to be the same.
+ */
+public final class ToastOptions {
+
+    /**
+     * Flag for the default background color.
+     */
+    private static final int FLAG_DEFAULT_BACKGROUND_COLOR = 1;
+
+    /**
+     * Flag for the default tint color.
+     */
+    private static final int FLAG_DEFAULT_TINT_COLOR = 1 << 1;
+
+    /**
+     * Flag for the error background color.
+     */
+    private static final int FLAG_ERROR_BACKGROUND_COLOR = 1 << 2;
+
+    /**
+     * Flag for the success background color.
+     */
+    private static final int FLAG_SUCCESS_BACKGROUND_COLOR = 1 << 3;
+
+    /**
+     * Flag for the warning background color.
+     */
+    private static final int FLAG_WARNING_BACKGROUND_COLOR = 1 << 4;
+
+    /**
+     * Flag for the error icon.
+     */
+    private static final int FLAG_ERROR_ICON = 1 << 5;
+
+    /**
+     * Flag for the success icon.
+     */
+    private static final int FLAG_SUCCESS_ICON = 1 << 6;
+
+    /**
+     * Flag for the warning icon.
+     */
+    private static final int FLAG_WARNING_ICON = 1 << 7;
+
+    /**
+     * Flag for the icon visibility.
+     */
+    private static final int FLAG_DISABLE_ICON = 1 << 8;
+
+    /**
+     * Flag for the icon tint.
+     */
+    private static final int FLAG_TINT_ICON = 1 << 9;
+
+    /**
+     * Flag for the icon size.
+     */
+    private static final int FLAG_ICON_SIZE = 1 << 10;
+
+    /**
+     * Flag for the text size.
+     */
+    private static final int FLAG_TEXT_SIZE = 1 << 11;
+
+    /**
+     * Flag for the text typeface.
+     */
+    private static final int FLAG_TEXT_TYPEFACE = 1 << 12;
+
+    /**
+     * Flag for the toast background.
+     */
+    private static final int FLAG_TOAST_BACKGROUND = 1 << 13;
+
+    /**
+     * Flags for the values supplied by this object.
+     */
+    private final int mFlags;
+
+    /**
+     * Background color for the default toast.
+     */
+    private final @Nullable @ColorInt Integer mDefaultBackgroundColor;
+
+    /**
+     * Tint color for the default toast.
+     */
+    private final @Nullable @ColorInt Integer mDefaultTintColor;
+
+    /**
+     * Background color for the error toast.
+     */
+    private final @Nullable @ColorInt Integer mErrorBackgroundColor;
+
+    /**
+     * Background color for the success toast.
+     */
+    private final @Nullable @ColorInt Integer mSuccessBackgroundColor;
+
+    /**
+     * Background color for the warning toast.
+     */
+    private final @Nullable @ColorInt Integer mWarningBackgroundColor;
+
+    /**
+     * Custom icon for the error toast.
+     */
+    private final @Nullable Drawable mErrorIcon;
+
+    /**
+     * Custom icon for the success toast.
+     */
+    private final @Nullable Drawable mSuccessIcon;
+
+    /**
+     * Custom icon for the warning toast.
+     */
+    private final @Nullable Drawable mWarningIcon;
+
+    /**
+     * {@code true} to disable icon for the toast.
+     */
+    private final boolean mDisableIcon;
+
+    /**
+     * {@code true} to tint icon for the toast.
+     */
+    private final boolean mTintIcon;
+
+    /**
+     * Icon size for the toast in pixels.
+     */
+    private final int mIconSize;
+
+    /**
+     * Text size for the toast in SP.
+     */
+    private final int mTextSize;
+
+    /**
+     * Custom typeface used by the toast.
+     */
+    private final @Nullable Typeface mTextTypeface;
+
+    /**
+     * Custom background used by the toast.
+     */
+    private final @Nullable Drawable mToastBackground;
+
+    /**
+     * Hash code for the values of this object.
+     */
+    private final int mHashCode;
+
+    /**
+     * The last merged styles for this object.
+     * <p>It keeps the styles for the last two global styles, so that the same options can be
+     * used for both the {@link DynamicToast} and {@link DynamicHint}.
+     */
+    private volatile @Nullable Merged mMerged;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param builder The builder to be used.
+     */
+    private ToastOptions(@NonNull Builder builder) {
+        this.mFlags = builder.flags;
+        this.mDefaultBackgroundColor = builder.defaultBackgroundColor;
+        this.mDefaultTintColor = builder.defaultTintColor;
+        this.mErrorBackgroundColor = builder.errorBackgroundColor;
+        this.mSuccessBackgroundColor = builder.successBackgroundColor;
+        this.mWarningBackgroundColor = builder.warningBackgroundColor;
+        this.mErrorIcon = builder.errorIcon;
+        this.mSuccessIcon = builder.successIcon;
+        this.mWarningIcon = builder.warningIcon;
+        this.mDisableIcon = builder.disableIcon;
+        this.mTintIcon = builder.tintIcon;
+        this.mIconSize = builder.iconSize;
+        this.mTextSize = builder.textSize;
+        this.mTextTypeface = builder.textTypeface;
+        this.mToastBackground = builder.toastBackground;
+        this.mHashCode = calculateHashCode();
+    }
+
+    /**
+     * Calculates the hash code for the values of this object.
+     *
+     * @return The hash code for the values of this object.
+     */
+    private int calculateHashCode() {
+        int result = mFlags;
+        result = 31 * result + ObjectsCompat.hashCode(mDefaultBackgroundColor);
+        result = 31 * result + ObjectsCompat.hashCode(mDefaultTintColor);
+        result = 31 * result + ObjectsCompat.hashCode(mErrorBackgroundColor);
+        result = 31 * result + ObjectsCompat.hashCode(mSuccessBackgroundColor);
+        result = 31 * result + ObjectsCompat.hashCode(mWarningBackgroundColor);
+        result = 31 * result + hashDrawable(mErrorIcon);
+        result = 31 * result + hashDrawable(mSuccessIcon);
+        result = 31 * result + hashDrawable(mWarningIcon);
+        result = 31 * result + (mDisableIcon ? 1 : 0);
+        result = 31 * result + (mTintIcon ? 1 : 0);
+        result = 31 * result + mIconSize;
+        result = 31 * result + mTextSize;
+        result = 31 * result + ObjectsCompat.hashCode(mTextTypeface);
+
+        return 31 * result + hashDrawable(mToastBackground);
+    }
+
+    /**
+     * Returns the hash code for the supplied drawable.
+     * <p>The drawables created from the same resource will have the same hash code as they
+     * share their constant state.
+     *
+     * @param drawable The drawable to get the hash code.
+     *
+     * @return The hash code for the supplied drawable.
+     *
+     * @see #isSameDrawable(Drawable, Drawable)
+     */
+    static int hashDrawable(@Nullable Drawable drawable) {
+        if (drawable == null) {
+            return 0;
+        }
+
+        @Nullable Drawable.ConstantState state = drawable.getConstantState();
+        return System.identityHashCode(state != null ? state : drawable);
+    }
+
+    /**
+     * Checks whether the supplied drawables will draw the same content.
+     * <p>The drawables created from the same resource are equal as they share their
+     * constant state.
+     *
+     * @param drawable The first drawable to be checked.
+     * @param other The second drawable to be checked.
+     *
+     * @return {@code true} if the supplied drawables will draw the same content.
+     */
+    static boolean isSameDrawable(@Nullable Drawable drawable, @Nullable Drawable other) {
+        if (drawable == other) {
+            return true;
+        }
+
+        if (drawable == null || other == null) {
+            return false;
+        }
+
+        @Nullable Drawable.ConstantState state = drawable.getConstantState();
+        return state != null && state == other.getConstantState();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (!(object instanceof ToastOptions)) {
+            return false;
+        }
+
+        ToastOptions options = (ToastOptions) object;
+        return mHashCode == options.mHashCode && mFlags == options.mFlags
+                && ObjectsCompat.equals(mDefaultBackgroundColor, options.mDefaultBackgroundColor)
+                && ObjectsCompat.equals(mDefaultTintColor, options.mDefaultTintColor)
+                && ObjectsCompat.equals(mErrorBackgroundColor, options.mErrorBackgroundColor)
+                && ObjectsCompat.equals(mSuccessBackgroundColor, options.mSuccessBackgroundColor)
+                && ObjectsCompat.equals(mWarningBackgroundColor, options.mWarningBackgroundColor)
+                && isSameDrawable(mErrorIcon, options.mErrorIcon)
+                && isSameDrawable(mSuccessIcon, options.mSuccessIcon)
+                && isSameDrawable(mWarningIcon, options.mWarningIcon)
+                && mDisableIcon == options.mDisableIcon && mTintIcon == options.mTintIcon
+                && mIconSize == options.mIconSize && mTextSize == options.mTextSize
+                && ObjectsCompat.equals(mTextTypeface, options.mTextTypeface)
+                && isSameDrawable(mToastBackground, options.mToastBackground);
+    }
+
+    @Override
+    public int hashCode() {
+        return mHashCode;
+    }
+
+    /**
+     * Checks whether the supplied value has been set for this object.
+     *
+     * @param flag The flag for the value.
+     *
+     * @return {@code true} if the supplied value has been set for this object.
+     */
+    private boolean isSet(int flag) {
+        return (mFlags & flag) != 0;
+    }
+
+    /**
+     * Merge these options with the supplied style.
+     * <p>The merged style will be cached for the last two supplied styles.
+     *
+     * @param style The style to merge with.
+     *
+     * @return The style after merging these options.
+     */
+    @NonNull ToastStyle merge(@NonNull ToastStyle style) {
+        @Nullable ToastMetricsListener metrics = ToastMetrics.getListener();
+        if (metrics == null) {
+            return resolve(style);
+        }
+
+        long start = System.nanoTime();
+        ToastStyle result = resolve(style);
+        metrics.onToastStage(ToastMetricsListener.STAGE_STYLE, System.nanoTime() - start);
+
+        return result;
+    }
+
+    /**
+     * Resolve the style by merging these options with the supplied style.
+     *
+     * @param style The style to merge with.
+     *
+     * @return The style after merging these options.
+     *
+     * @see #merge(ToastStyle)
+     */
+    private @NonNull ToastStyle resolve(@NonNull ToastStyle style) {
+        if (mFlags == 0) {
+            return style;
+        }
+
+        @Nullable Merged merged = mMerged;
+        if (merged != null && merged.base == style) {
+            return merged.style;
+        }
+
+        @Nullable Merged previous = merged != null ? merged.previous : null;
+        if (previous != null && previous.base == style) {
+            // Move it to the front so that the least recently used style will be dropped.
+            mMerged = new Merged(previous.base, previous.style, merged);
+            return previous.style;
+        }
+
+        ToastStyle.Builder builder = new ToastStyle.Builder(style);
+        if (isSet(FLAG_DEFAULT_BACKGROUND_COLOR)) {
+            builder.setDefaultBackgroundColor(mDefaultBackgroundColor);
+        }
+        if (isSet(FLAG_DEFAULT_TINT_COLOR)) {
+            builder.setDefaultTintColor(mDefaultTintColor);
+        }
+        if (isSet(FLAG_ERROR_BACKGROUND_COLOR)) {
+            builder.setErrorBackgroundColor(mErrorBackgroundColor);
+        }
+        if (isSet(FLAG_SUCCESS_BACKGROUND_COLOR)) {
+            builder.setSuccessBackgroundColor(mSuccessBackgroundColor);
+        }
+        if (isSet(FLAG_WARNING_BACKGROUND_COLOR)) {
+            builder.setWarningBackgroundColor(mWarningBackgroundColor);
+        }
+        if (isSet(FLAG_ERROR_ICON)) {
+            builder.setErrorIcon(mErrorIcon);
+        }
+        if (isSet(FLAG_SUCCESS_ICON)) {
+            builder.setSuccessIcon(mSuccessIcon);
+        }
+        if (isSet(FLAG_WARNING_ICON)) {
+            builder.setWarningIcon(mWarningIcon);
+        }
+        if (isSet(FLAG_DISABLE_ICON)) {
+            builder.setDisableIcon(mDisableIcon);
+        }
+        if (isSet(FLAG_TINT_ICON)) {
+            builder.setTintIcon(mTintIcon);
+        }
+        if (isSet(FLAG_ICON_SIZE)) {
+            builder.setIconSize(mIconSize);
+        }
+        if (isSet(FLAG_TEXT_SIZE)) {
+            builder.setTextSize(mTextSize);
+        }
+        if (isSet(FLAG_TEXT_TYPEFACE)) {
+            builder.setTextTypeface(mTextTypeface);
+        }
+        if (isSet(FLAG_TOAST_BACKGROUND)) {
+            builder.setToastBackground(mToastBackground);
+        }
+
+        ToastStyle result = builder.build();
+        mMerged = new Merged(style, result, merged);
+
+        return result;
+    }
+
+    /**
+     * A style merged with these options.
+     */
+    private static final class Merged {
+
+        /**
+         * The style used to merge these options.
+         */
+        final @NonNull ToastStyle base;
+
+        /**
+         * The style after merging these options.
+         */
+        final @NonNull ToastStyle style;
+
+        /**
+         * The previously merged style, {@code null} if there is no previous style.
+         */
+        final @Nullable Merged previous;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param base The style used to merge these options.
+         * @param style The style after merging these options.
+         * @param previous The previously merged style to be kept.
+         */
+        Merged(@NonNull ToastStyle base, @NonNull ToastStyle style,
+                @Nullable Merged previous) {
+            this.base = base;
+            this.style = style;
+            // Keep only one previous style to bound the cache.
+            this.previous = previous != null && previous.previous != null
+                    ? new Merged(previous.base, previous.style, null) : previous;
+        }
+    }
+
+    /**
+     * Builder class to create the {@link ToastOptions}.
+     */
+    public static class Builder {
+
+        /**
+         * Flags for the supplied values.
+         */
+        private int flags;
+
+        /**
+         * Background color for the default toast.
+         */
+        private @Nullable @ColorInt Integer defaultBackgroundColor;
+
+        /**
+         * Tint color for the default toast.
+         */
+        private @Nullable @ColorInt Integer defaultTintColor;
+
+        /**
+         * Background color for the error toast.
+         */
+        private @Nullable @ColorInt Integer errorBackgroundColor;
+
+        /**
+         * Background color for the success toast.
+         */
+        private @Nullable @ColorInt Integer successBackgroundColor;
+
+        /**
+         * Background color for the warning toast.
+         */
+        private @Nullable @ColorInt Integer warningBackgroundColor;
+
+        /**
+         * Custom icon for the error toast.
+         */
+        private @Nullable Drawable errorIcon;
+
+        /**
+         * Custom icon for the success toast.
+         */
+        private @Nullable Drawable successIcon;
+
+        /**
+         * Custom icon for the warning toast.
+         */
+        private @Nullable Drawable warningIcon;
+
+        /**
+         * {@code true} to disable icon for the toast.
+         */
+        private boolean disableIcon;
+
+        /**
+         * {@code true} to tint icon for the toast.
+         */
+        private boolean tintIcon;
+
+        /**
+         * Icon size for the toast in pixels.
+         */
+        private int iconSize;
+
+        /**
+         * Text size for the toast in SP.
+         */
+        private int textSize;
+
+        /**
+         * Custom typeface used by the toast.
+         */
+        private @Nullable Typeface textTypeface;
+
+        /**
+         * Custom background used by the toast.
+         */
+        private @Nullable Drawable toastBackground;
+
+        /**
+         * Set the default background color.
+         *
+         * @param defaultBackgroundColor The background color to be set.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setDefaultBackgroundColor(
+                @Nullable @ColorInt Integer defaultBackgroundColor) {
+            this.defaultBackgroundColor = defaultBackgroundColor;
+            this.flags |= FLAG_DEFAULT_BACKGROUND_COLOR;
+
+            return this;
+        }
+
+        /**
+         * Set the default tint color.
+         *
+         * @param defaultTintColor The tint color to be set.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setDefaultTintColor(@Nullable @ColorInt Integer defaultTintColor) {
+            this.defaultTintColor = defaultTintColor;
+            this.flags |= FLAG_DEFAULT_TINT_COLOR;
+
+            return this;
+        }
+
+        /**
+         * Set the error background color.
+         *
+         * @param errorBackgroundColor The error background color to be set.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setErrorBackgroundColor(
+                @Nullable @ColorInt Integer errorBackgroundColor) {
+            this.errorBackgroundColor = errorBackgroundColor;
+            this.flags |= FLAG_ERROR_BACKGROUND_COLOR;
+
+            return this;
+        }
+
+        /**
+         * Set the success background color.
+         *
+         * @param successBackgroundColor The success background color to be set.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setSuccessBackgroundColor(
+                @Nullable @ColorInt Integer successBackgroundColor) {
+            this.successBackgroundColor = successBackgroundColor;
+            this.flags |= FLAG_SUCCESS_BACKGROUND_COLOR;
+
+            return this;
+        }
+
+        /**
+         * Set the warning background color.
+         *
+         * @param warningBackgroundColor The warning background color to be set.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setWarningBackgroundColor(
+                @Nullable @ColorInt Integer warningBackgroundColor) {
+            this.warningBackgroundColor = warningBackgroundColor;
+            this.flags |= FLAG_WARNING_BACKGROUND_COLOR;
+
+            return this;
+        }
+
+        /**
+         * Set the error icon.
+         * <p>Pass {@code null} to use the default icon.
+         *
+         * @param errorIcon The error icon to be set.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setErrorIcon(@Nullable Drawable errorIcon) {
+            this.errorIcon = errorIcon;
+            this.flags |= FLAG_ERROR_ICON;
+
+            return this;
+        }
+
+        /**
+         * Set the success icon.
+         * <p>Pass {@code null} to use the default icon.
+         *
+         * @param successIcon The success icon to be set.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setSuccessIcon(@Nullable Drawable successIcon) {
+            this.successIcon = successIcon;
+            this.flags |= FLAG_SUCCESS_ICON;
+
+            return this;
+        }
+
+        /**
+         * Set the warning icon.
+         * <p>Pass {@code null} to use the default icon.
+         *
+         * @param warningIcon The warning icon to be set.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setWarningIcon(@Nullable Drawable warningIcon) {
+            this.warningIcon = warningIcon;
+            this.flags |= FLAG_WARNING_ICON;
+
+            return this;
+        }
+
+        /**
+         * Set the icon visibility.
+         *
+         * @param disableIcon {@code true} to disable icon for the toast.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setDisableIcon(boolean disableIcon) {
+            this.disableIcon = disableIcon;
+            this.flags |= FLAG_DISABLE_ICON;
+
+            return this;
+        }
+
+        /**
+         * Set whether to tint the icon.
+         *
+         * @param tintIcon {@code true} to tint icon for the toast.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setTintIcon(boolean tintIcon) {
+            this.tintIcon = tintIcon;
+            this.flags |= FLAG_TINT_ICON;
+
+            return this;
+        }
+
+        /**
+         * Set the icon size.
+         *
+         * @param iconSize The icon size to be set in {@code pixels}.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setIconSize(int iconSize) {
+            this.iconSize = iconSize;
+            this.flags |= FLAG_ICON_SIZE;
+
+            return this;
+        }
+
+        /**
+         * Set the text size.
+         *
+         * @param textSize The text size to be set in {@code sp}.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setTextSize(int textSize) {
+            this.textSize = textSize;
+            this.flags |= FLAG_TEXT_SIZE;
+
+            return this;
+        }
+
+        /**
+         * Set the text typeface.
+         * <p>Pass {@code null} to use the default typeface.
+         *
+         * @param textTypeface The text typeface to be set.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setTextTypeface(@Nullable Typeface textTypeface) {
+            this.textTypeface = textTypeface;
+            this.flags |= FLAG_TEXT_TYPEFACE;
+
+            return this;
+        }
+
+        /**
+         * Set the toast background.
+         * <p>Pass {@code null} to use the default background.
+         *
+         * @param toastBackground The toast background to be set.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setToastBackground(@Nullable Drawable toastBackground) {
+            this.toastBackground = toastBackground;
+            this.flags |= FLAG_TOAST_BACKGROUND;
+
+            return this;
+        }
+
+        /**
+         * Build the immutable {@link ToastOptions}.
+         *
+         * @return The {@link ToastOptions} for this builder.
+         */
+        public @NonNull ToastOptions build() {
+            return new ToastOptions(this);
+        }
+    }
+}
@@ -0,0 +1,645 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts;
+
+import android.content.Context;
+import android.graphics.drawable.Drawable;
+import android.text.TextUtils;
+import android.view.View;
+import android.widget.ImageView;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.toasts.internal.ToastTextPrecomputer;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastView;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastViewPool;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * A lightweight and immutable description of a {@link DynamicToast} or {@link DynamicHint}.
+ * <p>It does not hold any view except a weak reference to the hint anchor, so the toast will
+ * be created only when it has to be displayed by the {@link ToastDispatcher}.
+ */
+public final class ToastRequest {
+
+    /**
+     * Constant for the default toast.
+     */
+    public static final int TYPE_DEFAULT = 0;
+
+    /**
+     * Constant for the error toast.
+     */
+    public static final int TYPE_ERROR = 1;
+
+    /**
+     * Constant for the success toast.
+     */
+    public static final int TYPE_SUCCESS = 2;
+
+    /**
+     * Constant for the warning toast.
+     */
+    public static final int TYPE_WARNING = 3;
+
+    /**
+     * Total number of the toast types.
+     */
+    static final int TYPE_COUNT = 4;
+
+    /**
+     * Options to be used when no options have been supplied.
+     */
+    private static final ToastOptions DEFAULT_OPTIONS = new ToastOptions.Builder().build();
+
+    /**
+     * Type of the toast.
+     */
+    private final int mType;
+
+    /**
+     * Text to be shown.
+     */
+    private final @Nullable CharSequence mText;
+
+    /**
+     * Icon to be shown by the default toast.
+     */
+    private final @Nullable Drawable mIcon;
+
+    /**
+     * Duration for the toast.
+     */
+    private final int mDuration;
+
+    /**
+     * {@code true} to show a hint instead of the toast.
+     */
+    private final boolean mHint;
+
+    /**
+     * Anchor view to position the hint.
+     * <p>{@code null} to show the hint at the default toast position.
+     */
+    private final @Nullable WeakReference<View> mAnchor;
+
+    /**
+     * Options to override the global configuration.
+     */
+    private final @NonNull ToastOptions mOptions;
+
+    /**
+     * Key to replace the previous request with this one.
+     */
+    private final @Nullable String mKey;
+
+    /**
+     * {@code true} to measure the text on a background thread before making the toast.
+     */
+    private final boolean mPrecompute;
+
+    /**
+     * Fingerprint to identify the identical requests.
+     */
+    private final long mFingerprint;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param builder The builder to be used.
+     */
+    private ToastRequest(@NonNull Builder builder) {
+        this.mType = builder.type;
+        this.mText = builder.text;
+        this.mIcon = builder.icon;
+        this.mDuration = builder.duration;
+        this.mHint = builder.hint;
+        this.mAnchor = builder.hint && builder.anchor != null
+                ? new WeakReference<>(builder.anchor) : null;
+        this.mOptions = builder.options != null ? builder.options : DEFAULT_OPTIONS;
+        this.mKey = builder.key;
+        this.mPrecompute = builder.precompute;
+        this.mFingerprint = fingerprint();
+    }
+
+    /**
+     * Constructor to initialize an object of this class with the precomputed text.
+     *
+     * @param request The request to be copied.
+     * @param text The precomputed text for the request.
+     */
+    private ToastRequest(@NonNull ToastRequest request, @Nullable CharSequence text) {
+        this.mType = request.mType;
+        this.mText = text;
+        this.mIcon = request.mIcon;
+        this.mDuration = request.mDuration;
+        this.mHint = request.mHint;
+        this.mAnchor = request.mAnchor;
+        this.mOptions = request.mOptions;
+        this.mKey = request.mKey;
+        this.mPrecompute = false;
+        this.mFingerprint = request.mFingerprint;
+    }
+
+    /**
+     * Calculates the fingerprint for this request by using the text, type and style.
+     * <p>It uses the values of the options and icon, so that the identical requests created
+     * with the new objects will have the same fingerprint.
+     *
+     * @return The fingerprint for this request.
+     *
+     * @see #isIdentical(ToastRequest)
+     */
+    private long fingerprint() {
+        // 64-bit FNV-1a over the characters, so that a spanned text is not copied.
+        long hash = 0xCBF29CE484222325L;
+        if (mText != null) {
+            for (int i = 0; i < mText.length(); i++) {
+                hash = (hash ^ mText.charAt(i)) * 0x100000001B3L;
+            }
+        }
+
+        hash = (hash ^ getCategory()) * 0x100000001B3L;
+        hash = (hash ^ System.identityHashCode(getAnchor())) * 0x100000001B3L;
+        hash = (hash ^ mOptions.hashCode()) * 0x100000001B3L;
+
+        return (hash ^ ToastOptions.hashDrawable(getShownIcon())) * 0x100000001B3L;
+    }
+
+    /**
+     * Returns the icon shown by the toast for this request.
+     * <p>The error, success and warning toasts always show their own icons.
+     *
+     * @return The icon shown by the toast for this request.
+     */
+    private @Nullable Drawable getShownIcon() {
+        return mType == TYPE_DEFAULT ? mIcon : null;
+    }
+
+    /**
+     * Checks whether the supplied request will show the same toast as this request.
+     *
+     * @param request The request to be checked.
+     *
+     * @return {@code true} if the supplied request will show the same toast as this request.
+     */
+    boolean isIdentical(@Nullable ToastRequest request) {
+        return request != null && mFingerprint == request.mFingerprint
+                && getCategory() == request.getCategory()
+                && getAnchor() == request.getAnchor()
+                && TextUtils.equals(mText, request.mText)
+                && mOptions.equals(request.mOptions)
+                && ToastOptions.isSameDrawable(getShownIcon(), request.getShownIcon());
+    }
+
+    /**
+     * Returns a copy of this request with the text measured for its toast.
+     * <p>It should be called on a background thread.
+     *
+     * @param context The context to use.
+     *
+     * @return A copy of this request with the precomputed text.
+     */
+    @NonNull ToastRequest precompute(@NonNull Context context) {
+        return new ToastRequest(this, mHint ? DynamicHint.precompute(context, mOptions, mText)
+                : DynamicToast.precompute(context, mOptions, mText));
+    }
+
+    /**
+     * Make the toast for this request.
+     * <p>It must be called on the main thread.
+     *
+     * @param context The context to use.
+     *
+     * @return The toast for this request.
+     */
+    @NonNull Toast make(@NonNull Context context) {
+        Toast toast = makeToast(context);
+
+        @Nullable View anchor = getAnchor();
+        if (anchor != null && anchor.isAttachedToWindow()) {
+            DynamicHint.position(anchor, toast);
+        }
+
+        return toast;
+    }
+
+    /**
+     * Make the toast for this request without positioning the hint.
+     *
+     * @param context The context to use.
+     *
+     * @return The toast for this request.
+     */
+    private @NonNull Toast makeToast(@NonNull Context context) {
+        switch (mType) {
+            case TYPE_ERROR:
+                return mHint ? DynamicHint.makeError(context, mOptions, mText, mDuration)
+                        : DynamicToast.makeError(context, mOptions, mText, mDuration);
+            case TYPE_SUCCESS:
+                return mHint ? DynamicHint.makeSuccess(context, mOptions, mText, mDuration)
+                        : DynamicToast.makeSuccess(context, mOptions, mText, mDuration);
+            case TYPE_WARNING:
+                return mHint ? DynamicHint.makeWarning(context, mOptions, mText, mDuration)
+                        : DynamicToast.makeWarning(context, mOptions, mText, mDuration);
+            case TYPE_DEFAULT:
+            default:
+                return mHint ? DynamicHint.make(context, mOptions, mText, mIcon, mDuration)
+                        : DynamicToast.make(context, mOptions, mText, mIcon, mDuration);
+        }
+    }
+
+    /**
+     * Checks whether the toast for the supplied request can be updated with this request.
+     *
+     * @param request The request to be checked.
+     *
+     * @return {@code true} if the toast for the supplied request can be updated with
+     *         this request.
+     */
+    boolean isCompatible(@Nullable ToastRequest request) {
+        return request != null && mType == request.mType && mHint == request.mHint
+                && getAnchor() == request.getAnchor() && mOptions.equals(request.mOptions)
+                && (mIcon == null) == (request.mIcon == null);
+    }
+
+    /**
+     * Bind the text and icon for this request to the supplied toast view.
+     *
+     * @param view The toast view made for a compatible request.
+     *
+     * @return {@code true} if the toast view has been updated.
+     *
+     * @see #isCompatible(ToastRequest)
+     */
+    boolean bind(@NonNull View view) {
+        if (view instanceof ToastView) {
+            ((ToastView) view).setText(mText);
+            if (mIcon != null && mType == TYPE_DEFAULT) {
+                bindIcon(view);
+            }
+
+            return true;
+        }
+
+        @Nullable TextView text = view.findViewById(
+                mHint ? R.id.adt_hint_text : R.id.adt_toast_text);
+        if (text == null) {
+            return false;
+        }
+
+        ToastTextPrecomputer.setText(text,
+                mHint ? ToastViewPool.TYPE_HINT : ToastViewPool.TYPE_TOAST, mText);
+        // The error, success and warning toasts always show their own icons.
+        if (mIcon != null && mType == TYPE_DEFAULT) {
+            @Nullable ImageView icon = view.findViewById(
+                    mHint ? R.id.adt_hint_icon : R.id.adt_toast_icon);
+            if (icon != null && icon.getVisibility() != View.GONE) {
+                bindIcon(icon);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Bind the icon for this request to the supplied view.
+     *
+     * @param view The icon view or the toast view made for a compatible request.
+     */
+    private void bindIcon(@NonNull View view) {
+        if (mIcon == null) {
+            return;
+        }
+
+        if (mHint) {
+            DynamicHint.bindIcon(view, mOptions, mIcon);
+        } else {
+            DynamicToast.bindIcon(view, mOptions, mIcon);
+        }
+    }
+
+    /**
+     * Returns the category for this request to apply the rate limits.
+     *
+     * @return The category for this request.
+     */
+    int getCategory() {
+        return mHint ? TYPE_COUNT + mType : mType;
+    }
+
+    /**
+     * Returns the fingerprint to identify the identical requests.
+     *
+     * @return The fingerprint to identify the identical requests.
+     */
+    long getFingerprint() {
+        return mFingerprint;
+    }
+
+    /**
+     * Get the type of the toast.
+     *
+     * @return The type of the toast.
+     */
+    public int getType() {
+        return mType;
+    }
+
+    /**
+     * Get the text to be shown.
+     *
+     * @return The text to be shown.
+     */
+    public @Nullable CharSequence getText() {
+        return mText;
+    }
+
+    /**
+     * Get the icon to be shown by the default toast.
+     *
+     * @return The icon to be shown by the default toast.
+     */
+    public @Nullable Drawable getIcon() {
+        return mIcon;
+    }
+
+    /**
+     * Get the duration for the toast.
+     *
+     * @return The duration for the toast.
+     */
+    public int getDuration() {
+        return mDuration;
+    }
+
+    /**
+     * Checks whether to show a hint instead of the toast.
+     *
+     * @return {@code true} to show a hint instead of the toast.
+     */
+    public boolean isHint() {
+        return mHint;
+    }
+
+    /**
+     * Get the anchor view to position the hint.
+     *
+     * @return The anchor view to position the hint.
+     *         <p>{@code null} if it has not been set or it has been garbage collected.
+     */
+    public @Nullable View getAnchor() {
+        return mAnchor != null ? mAnchor.get() : null;
+    }
+
+    /**
+     * Get the options to override the global configuration.
+     *
+     * @return The options to override the global configuration.
+     */
+    public @NonNull ToastOptions getOptions() {
+        return mOptions;
+    }
+
+    /**
+     * Get the key to replace the previous request with this one.
+     *
+     * @return The key to replace the previous request with this one.
+     */
+    public @Nullable String getKey() {
+        return mKey;
+    }
+
+    /**
+     * Checks whether to measure the text on a background thread before making the toast.
+     *
+     * @return {@code true} to measure the text on a background thread before making the toast.
+     */
+    public boolean isPrecompute() {
+        return mPrecompute;
+    }
+
+    /**
+     * Builder class to create the {@link ToastRequest}.
+     */
+    public static class Builder {
+
+        /**
+         * Type of the toast.
+         */
+        private int type = TYPE_DEFAULT;
+
+        /**
+         * Text to be shown.
+         */
+        private @Nullable CharSequence text;
+
+        /**
+         * Icon to be shown by the default toast.
+         */
+        private @Nullable Drawable icon;
+
+        /**
+         * Duration for the toast.
+         */
+        private int duration = Toast.LENGTH_SHORT;
+
+        /**
+         * {@code true} to show a hint instead of the toast.
+         */
+        private boolean hint;
+
+        /**
+         * Anchor view to position the hint.
+         */
+        private @Nullable View anchor;
+
+        /**
+         * Options to override the global configuration.
+         */
+        private @Nullable ToastOptions options;
+
+        /**
+         * Key to replace the previous request with this one.
+         */
+        private @Nullable String key;
+
+        /**
+         * {@code true} to measure the text on a background thread before making the toast.
+         */
+        private boolean precompute;
+
+        /**
+         * Set the type of the toast.
+         *
+         * @param type The type to be set.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         *
+         * @see #TYPE_DEFAULT
+         * @see #TYPE_ERROR
+         * @see #TYPE_SUCCESS
+         * @see #TYPE_WARNING
+         */
+        public @NonNull Builder setType(int type) {
+            if (type < TYPE_DEFAULT || type >= TYPE_COUNT) {
+                throw new IllegalArgumentException("Invalid toast type: " + type);
+            }
+
+            this.type = type;
+
+            return this;
+        }
+
+        /**
+         * Set the text to be shown.
+         *
+         * @param text The text to be set. Can be formatted text.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setText(@Nullable CharSequence text) {
+            this.text = text;
+
+            return this;
+        }
+
+        /**
+         * Set the icon to be shown by the default toast.
+         * <p>The error, success and warning toasts will use their own icons.
+         *
+         * @param icon The icon to be set.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setIcon(@Nullable Drawable icon) {
+            this.icon = icon;
+
+            return this;
+        }
+
+        /**
+         * Set the duration for the toast.
+         *
+         * @param duration The duration to be set, either {@link Toast#LENGTH_SHORT}
+         *                 or {@link Toast#LENGTH_LONG}.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setDuration(int duration) {
+            this.duration = duration;
+
+            return this;
+        }
+
+        /**
+         * Set whether to show a hint instead of the toast.
+         * <p>Set an anchor view to position it like the {@link DynamicHint#show(View, Toast)},
+         * otherwise it will be shown at the default toast position.
+         *
+         * @param hint {@code true} to show a hint instead of the toast.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         *
+         * @see #setAnchor(View)
+         */
+        public @NonNull Builder setHint(boolean hint) {
+            this.hint = hint;
+
+            return this;
+        }
+
+        /**
+         * Set the anchor view to position the hint above or below it.
+         * <p>It is only used for the hints and will be referenced weakly, the hint will be
+         * shown at the default toast position if the anchor is no longer attached to the window
+         * when the hint is made.
+         *
+         * @param anchor The anchor view to be set.
+         *               <p>Pass {@code null} to show the hint at the default toast position.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         *
+         * @see #setHint(boolean)
+         */
+        public @NonNull Builder setAnchor(@Nullable View anchor) {
+            this.anchor = anchor;
+
+            return this;
+        }
+
+        /**
+         * Set the options to override the global configuration.
+         *
+         * @param options The options to be set.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setOptions(@Nullable ToastOptions options) {
+            this.options = options;
+
+            return this;
+        }
+
+        /**
+         * Set the key to replace the previous request with this one.
+         * <p>If a toast for the same key is being shown with a compatible style, its text and
+         * icon will be updated in place. Otherwise, the previous toast will be cancelled or
+         * its pending request will be replaced.
+         *
+         * @param key The key to be set.
+         *            <p>Pass {@code null} to queue this request normally.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setKey(@Nullable String key) {
+            this.key = key;
+
+            return this;
+        }
+
+        /**
+         * Set whether to measure the text on a background thread before making the toast.
+         * <p>It is useful for the long or formatted text, which will be shown after it has
+         * been measured by using the text typeface and size of the options.
+         *
+         * @param precompute {@code true} to measure the text on a background thread.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         *
+         * @see DynamicToast#precompute(Context, ToastOptions, CharSequence)
+         */
+        public @NonNull Builder setPrecompute(boolean precompute) {
+            this.precompute = precompute;
+
+            return this;
+        }
+
+        /**
+         * Build the immutable {@link ToastRequest}.
+         *
+         * @return The {@link ToastRequest} for this builder.
+         */
+        public @NonNull ToastRequest build() {
+            return new ToastRequest(this);
+        }
+    }
+}
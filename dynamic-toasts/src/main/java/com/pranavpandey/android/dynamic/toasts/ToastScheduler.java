@@ -0,0 +1,678 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.View;
+import android.widget.Toast;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.pranavpandey.android.dynamic.toasts.internal.ToastCompat;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastMetrics;
+import com.pranavpandey.android.dynamic.toasts.internal.ToastTrace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A scheduler to show the {@link ToastRequest} one at a time according to their priority.
+ * <p>The queue is bounded and the toast for a request will be created only when it reaches
+ * the front of the queue. It must be accessed on the main thread.
+ * <p>The requests with a key will replace the previous request for the same key, so that the
+ * frequently updated messages do not build up in the queue.
+ * <p>The toasts made by the {@link DynamicToast} and {@link DynamicHint} will be submitted
+ * to this scheduler when they are shown, if it has been enabled in their configuration.
+ */
+public final class ToastScheduler {
+
+    /**
+     * Constant to drop the oldest request when the queue is full.
+     */
+    public static final int POLICY_DROP_OLDEST = 0;
+
+    /**
+     * Constant to drop the lowest priority request when the queue is full.
+     */
+    public static final int POLICY_DROP_LOWEST = 1;
+
+    /**
+     * Constant to reject the new request when the queue is full.
+     */
+    public static final int POLICY_REJECT = 2;
+
+    /**
+     * Default maximum number of the pending requests.
+     */
+    public static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * Time in milliseconds to wait for a short toast to hide.
+     */
+    private static final long TIMEOUT_SHORT = 2000;
+
+    /**
+     * Time in milliseconds to wait for a long toast to hide.
+     */
+    private static final long TIMEOUT_LONG = 3500;
+
+    /**
+     * Additional time in milliseconds to wait for the toast animations.
+     */
+    private static final long TIMEOUT_GRACE = 500;
+
+    /**
+     * Handler to schedule the next toast on the main thread.
+     */
+    private static final Handler sHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * Pending requests in the submission order.
+     */
+    private static final List<Entry> sQueue = new ArrayList<>();
+
+    /**
+     * Priority for each toast type, higher will be shown first.
+     */
+    private static final int[] sPriorities = new int[ToastRequest.TYPE_COUNT];
+
+    /**
+     * Number of requests that have been dropped due to the full queue.
+     */
+    private static final AtomicLong sDropped = new AtomicLong();
+
+    /**
+     * Number of requests that have been rejected due to the full queue.
+     */
+    private static final AtomicLong sRejected = new AtomicLong();
+
+    /**
+     * Runnable to show the next toast.
+     */
+    private static final Runnable sNext = new Runnable() {
+        @Override
+        public void run() {
+            next();
+        }
+    };
+
+    /**
+     * Listener to show the next toast once the current toast view is detached.
+     * <p>The current toast is cleared while dispatching the detach, as a recycled view will
+     * be returned to the pool in the same dispatch and must not be bound again by a request
+     * with the same key.
+     */
+    private static final View.OnAttachStateChangeListener sHideListener =
+            new View.OnAttachStateChangeListener() {
+                @Override
+                public void onViewAttachedToWindow(View view) { }
+
+                @Override
+                public void onViewDetachedFromWindow(View view) {
+                    view.removeOnAttachStateChangeListener(this);
+
+                    if (view == sCurrentView) {
+                        hidden();
+                        sHandler.removeCallbacks(sNext);
+                        sHandler.post(sNext);
+                    }
+                }
+            };
+
+    /**
+     * Maximum number of the pending requests.
+     */
+    private static int sCapacity = DEFAULT_CAPACITY;
+
+    /**
+     * Policy to be used when the queue is full.
+     */
+    private static int sPolicy = POLICY_DROP_LOWEST;
+
+    /**
+     * Number of the pending requests, so that it can be read from any thread.
+     */
+    private static volatile int sPendingCount;
+
+    /**
+     * Sequence number for the next request.
+     */
+    private static long sSequence;
+
+    /**
+     * {@code true} if a toast has been handed to the framework and not hidden yet.
+     */
+    private static boolean sShowing;
+
+    /**
+     * Toast being shown.
+     */
+    private static @Nullable Toast sCurrentToast;
+
+    /**
+     * Request for the toast being shown.
+     */
+    private static @Nullable ToastRequest sCurrentRequest;
+
+    /**
+     * View of the toast being shown.
+     */
+    private static @Nullable View sCurrentView;
+
+    /**
+     * Trace cookie for the toast being shown.
+     */
+    private static int sCurrentCookie;
+
+    /**
+     * {@code true} if the showing section has been added for the toast being shown.
+     */
+    private static boolean sCurrentTraced;
+
+    static {
+        sPriorities[ToastRequest.TYPE_ERROR] = 3;
+        sPriorities[ToastRequest.TYPE_WARNING] = 2;
+        sPriorities[ToastRequest.TYPE_DEFAULT] = 1;
+        sPriorities[ToastRequest.TYPE_SUCCESS] = 0;
+    }
+
+    /**
+     * Making default constructor private to avoid instantiation.
+     */
+    private ToastScheduler() { }
+
+    /**
+     * Submit the request to be shown after the higher priority and the previous requests.
+     * <p>It must be called on the main thread.
+     *
+     * @param context The context to use.
+     * @param request The request to be shown.
+     *
+     * @return {@code true} if the request has been queued or shown.
+     */
+    public static boolean submit(@NonNull Context context, @NonNull ToastRequest request) {
+        Entry entry = new Entry(context, request, null,
+                sPriorities[request.getType()], sSequence++);
+        entry.traced = ToastTrace.beginAsync(ToastTrace.SECTION_PENDING, entry.cookie());
+
+        if (request.getKey() != null && replace(entry)) {
+            ToastMetrics.event(ToastMetricsListener.EVENT_REPLACED, sQueue.size());
+            return true;
+        }
+
+        return enqueue(entry);
+    }
+
+    /**
+     * Submit the toast to be shown after the higher priority and the previous toasts.
+     * <p>It can be called from any thread, the toast will be submitted on the main thread.
+     *
+     * @param toast The toast to be shown.
+     * @param type The type of the toast to get its priority.
+     *
+     * @return {@code true} if the toast has been queued or shown, or it will be submitted
+     *         on the main thread.
+     *
+     * @see ToastRequest#TYPE_DEFAULT
+     * @see ToastRequest#TYPE_ERROR
+     * @see ToastRequest#TYPE_SUCCESS
+     * @see ToastRequest#TYPE_WARNING
+     */
+    public static boolean submit(@NonNull final Toast toast, final int type) {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            sHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    submit(toast, type);
+                }
+            });
+
+            return true;
+        }
+
+        Entry entry = new Entry(null, null, toast, sPriorities[type], sSequence++);
+        entry.traced = ToastTrace.beginAsync(ToastTrace.SECTION_PENDING, entry.cookie());
+
+        return enqueue(entry);
+    }
+
+    /**
+     * Add the supplied entry to the queue and show it if no toast is being shown.
+     *
+     * @param entry The entry to be queued.
+     *
+     * @return {@code true} if the entry has been queued or shown.
+     */
+    private static boolean enqueue(@NonNull Entry entry) {
+        if (sQueue.size() >= sCapacity && !makeRoom(entry)) {
+            return false;
+        }
+
+        sQueue.add(entry);
+        sPendingCount = sQueue.size();
+        ToastMetrics.event(ToastMetricsListener.EVENT_QUEUED, sQueue.size());
+        if (!sShowing) {
+            next();
+        }
+
+        return true;
+    }
+
+    /**
+     * Replace the toast or the pending request for the same key with the supplied entry.
+     *
+     * @param entry The entry with a non-null key.
+     *
+     * @return {@code true} if the supplied entry has replaced the previous one.
+     */
+    private static boolean replace(@NonNull Entry entry) {
+        String key = entry.request.getKey();
+        if (sShowing && sCurrentRequest != null && key.equals(sCurrentRequest.getKey())) {
+            if (sCurrentToast != null && sCurrentView != null
+                    && entry.request.isCompatible(sCurrentRequest)
+                    && entry.request.bind(sCurrentView)) {
+                sCurrentRequest = entry.request;
+
+                // Enqueue the same toast again, it will be updated in place by the system.
+                ToastTrace.endAsync(ToastTrace.SECTION_PENDING, entry.cookie(), entry.traced);
+                sCurrentToast.setDuration(entry.request.getDuration());
+                showNow(sCurrentToast);
+                schedule(sCurrentToast);
+            } else {
+                if (sCurrentToast != null) {
+                    sCurrentToast.cancel();
+                }
+
+                show(entry);
+            }
+
+            return true;
+        }
+
+        for (int i = 0; i < sQueue.size(); i++) {
+            @Nullable ToastRequest request = sQueue.get(i).request;
+            if (request != null && key.equals(request.getKey())) {
+                Entry replaced = sQueue.set(i, entry);
+                ToastTrace.endAsync(ToastTrace.SECTION_PENDING,
+                        replaced.cookie(), replaced.traced);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Make room for the supplied entry according to the policy.
+     *
+     * @param entry The entry to be queued.
+     *
+     * @return {@code true} if the supplied entry can be queued.
+     */
+    private static boolean makeRoom(@NonNull Entry entry) {
+        if (sPolicy == POLICY_REJECT || sQueue.isEmpty()) {
+            sRejected.incrementAndGet();
+            ToastTrace.endAsync(ToastTrace.SECTION_PENDING, entry.cookie(), entry.traced);
+            ToastMetrics.event(ToastMetricsListener.EVENT_REJECTED, sQueue.size());
+            return false;
+        }
+
+        int index = 0;
+        if (sPolicy == POLICY_DROP_LOWEST) {
+            for (int i = 1; i < sQueue.size(); i++) {
+                Entry lowest = sQueue.get(index);
+                Entry current = sQueue.get(i);
+                if (current.priority < lowest.priority
+                        || (current.priority == lowest.priority
+                        && current.sequence > lowest.sequence)) {
+                    index = i;
+                }
+            }
+
+            if (entry.priority <= sQueue.get(index).priority) {
+                sDropped.incrementAndGet();
+                ToastTrace.endAsync(ToastTrace.SECTION_PENDING, entry.cookie(), entry.traced);
+                ToastMetrics.event(ToastMetricsListener.EVENT_DROPPED, sQueue.size());
+                return false;
+            }
+        }
+
+        Entry dropped = sQueue.remove(index);
+        sPendingCount = sQueue.size();
+        ToastTrace.endAsync(ToastTrace.SECTION_PENDING, dropped.cookie(), dropped.traced);
+        forget(dropped);
+        sDropped.incrementAndGet();
+        ToastMetrics.event(ToastMetricsListener.EVENT_DROPPED, sQueue.size());
+
+        return true;
+    }
+
+    /**
+     * Show the highest priority pending request.
+     */
+    private static void next() {
+        hidden();
+        sHandler.removeCallbacks(sNext);
+
+        if (sQueue.isEmpty()) {
+            return;
+        }
+
+        int index = 0;
+        for (int i = 1; i < sQueue.size(); i++) {
+            Entry highest = sQueue.get(index);
+            Entry current = sQueue.get(i);
+            if (current.priority > highest.priority) {
+                index = i;
+            }
+        }
+
+        Entry entry = sQueue.remove(index);
+        sPendingCount = sQueue.size();
+        show(entry);
+    }
+
+    /**
+     * Clear the toast being shown after it has been hidden.
+     */
+    private static void hidden() {
+        if (sShowing) {
+            ToastTrace.endAsync(ToastTrace.SECTION_SHOWING, sCurrentCookie, sCurrentTraced);
+        }
+
+        sShowing = false;
+        sCurrentTraced = false;
+        sCurrentToast = null;
+        sCurrentRequest = null;
+        sCurrentView = null;
+    }
+
+    /**
+     * Make and show the toast for the supplied entry.
+     *
+     * @param entry The entry to be shown.
+     */
+    private static void show(@NonNull Entry entry) {
+        if (sShowing) {
+            ToastTrace.endAsync(ToastTrace.SECTION_SHOWING, sCurrentCookie, sCurrentTraced);
+        }
+
+        Toast toast = entry.make();
+        @Nullable View view = toast.getView();
+        if (view != null) {
+            view.addOnAttachStateChangeListener(sHideListener);
+        }
+
+        sShowing = true;
+        sCurrentToast = toast;
+        sCurrentRequest = entry.request;
+        sCurrentView = view;
+        sCurrentCookie = entry.cookie();
+        ToastTrace.endAsync(ToastTrace.SECTION_PENDING, sCurrentCookie, entry.traced);
+        sCurrentTraced = ToastTrace.beginAsync(ToastTrace.SECTION_SHOWING, sCurrentCookie);
+        showNow(toast);
+        schedule(toast);
+    }
+
+    /**
+     * Show the supplied toast through the system queue without submitting it again.
+     *
+     * @param toast The toast to be shown.
+     */
+    private static void showNow(@NonNull Toast toast) {
+        if (toast instanceof ToastCompat) {
+            ((ToastCompat) toast).showNow();
+        } else {
+            toast.show();
+        }
+    }
+
+    /**
+     * Forget the request of the supplied entry, so that an identical request can be shown.
+     *
+     * @param entry The entry to be forgotten.
+     */
+    private static void forget(@NonNull Entry entry) {
+        if (entry.request != null) {
+            ToastDispatcher.forget(entry.request);
+        }
+    }
+
+    /**
+     * Schedule the next toast after the supplied toast has been hidden.
+     *
+     * @param toast The toast being shown.
+     */
+    private static void schedule(@NonNull Toast toast) {
+        sHandler.removeCallbacks(sNext);
+        sHandler.postDelayed(sNext, (toast.getDuration() == Toast.LENGTH_LONG
+                ? TIMEOUT_LONG : TIMEOUT_SHORT) + TIMEOUT_GRACE);
+    }
+
+    /**
+     * Remove all the pending requests.
+     * <p>The toast being shown will not be affected.
+     */
+    public static void clear() {
+        for (int i = 0; i < sQueue.size(); i++) {
+            Entry entry = sQueue.get(i);
+            ToastTrace.endAsync(ToastTrace.SECTION_PENDING, entry.cookie(), entry.traced);
+            forget(sQueue.get(i));
+        }
+
+        sQueue.clear();
+        sPendingCount = 0;
+    }
+
+    /**
+     * Remove the pending entries for the supplied toast.
+     * <p>It can be called from any thread. The toast being shown will be hidden by the system.
+     *
+     * @param toast The toast to be removed.
+     */
+    public static void cancel(@NonNull final Toast toast) {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            sHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    cancel(toast);
+                }
+            });
+
+            return;
+        }
+
+        for (int i = sQueue.size() - 1; i >= 0; i--) {
+            if (sQueue.get(i).toast == toast) {
+                Entry entry = sQueue.remove(i);
+                ToastTrace.endAsync(ToastTrace.SECTION_PENDING, entry.cookie(), entry.traced);
+            }
+        }
+
+        sPendingCount = sQueue.size();
+    }
+
+    /**
+     * Remove all the pending requests and forget the toast being shown.
+     */
+    @VisibleForTesting
+    static void reset() {
+        clear();
+        hidden();
+        sHandler.removeCallbacks(sNext);
+    }
+
+    /**
+     * Set the priority for the supplied toast type.
+     * <p>By default, the error toast has the highest priority followed by the warning,
+     * default and the success toast.
+     *
+     * @param type The toast type to set the priority.
+     * @param priority The priority to be set, higher will be shown first.
+     *
+     * @see ToastRequest#TYPE_DEFAULT
+     * @see ToastRequest#TYPE_ERROR
+     * @see ToastRequest#TYPE_SUCCESS
+     * @see ToastRequest#TYPE_WARNING
+     */
+    public static void setPriority(int type, int priority) {
+        sPriorities[type] = priority;
+    }
+
+    /**
+     * Set the maximum number of the pending requests.
+     *
+     * @param capacity The maximum number of the pending requests.
+     */
+    public static void setCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        sCapacity = capacity;
+    }
+
+    /**
+     * Set the policy to be used when the queue is full.
+     *
+     * @param policy The policy to be set.
+     *
+     * @see #POLICY_DROP_OLDEST
+     * @see #POLICY_DROP_LOWEST
+     * @see #POLICY_REJECT
+     */
+    public static void setDropPolicy(int policy) {
+        sPolicy = policy;
+    }
+
+    /**
+     * Returns the number of the pending requests.
+     * <p>It can be called from any thread.
+     *
+     * @return The number of the pending requests.
+     */
+    public static int getPendingCount() {
+        return sPendingCount;
+    }
+
+    /**
+     * Returns the number of requests that have been dropped due to the full queue.
+     *
+     * @return The number of requests that have been dropped due to the full queue.
+     */
+    public static long getDroppedCount() {
+        return sDropped.get();
+    }
+
+    /**
+     * Returns the number of requests that have been rejected due to the full queue.
+     *
+     * @return The number of requests that have been rejected due to the full queue.
+     */
+    public static long getRejectedCount() {
+        return sRejected.get();
+    }
+
+    /**
+     * A pending request or toast with its priority.
+     */
+    private static final class Entry {
+
+        /**
+         * The context to make the toast.
+         * <p>{@code null} if the toast has already been made.
+         */
+        final @Nullable Context context;
+
+        /**
+         * The request to be shown.
+         * <p>{@code null} if the toast has already been made.
+         */
+        final @Nullable ToastRequest request;
+
+        /**
+         * The toast to be shown.
+         * <p>{@code null} to make the toast for the request.
+         */
+        final @Nullable Toast toast;
+
+        /**
+         * The priority for the request.
+         */
+        final int priority;
+
+        /**
+         * The sequence number for the request.
+         */
+        final long sequence;
+
+        /**
+         * {@code true} if the pending section has been added for this entry.
+         */
+        boolean traced;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param context The context to make the toast.
+         * @param request The request to be shown.
+         * @param toast The toast to be shown instead of the request.
+         * @param priority The priority for the request.
+         * @param sequence The sequence number for the request.
+         */
+        Entry(@Nullable Context context, @Nullable ToastRequest request,
+                @Nullable Toast toast, int priority, long sequence) {
+            this.context = context;
+            this.request = request;
+            this.toast = toast;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Returns the toast for this entry, it will be made for the request if required.
+         * <p>It must be called on the main thread.
+         *
+         * @return The toast for this entry.
+         */
+        @NonNull Toast make() {
+            if (toast != null) {
+                return toast;
+            }
+
+            if (request == null || context == null) {
+                throw new IllegalStateException("Entry has no toast or request to be shown");
+            }
+
+            return request.make(context);
+        }
+
+        /**
+         * Returns the cookie to trace this entry.
+         *
+         * @return The cookie to trace this entry.
+         */
+        int cookie() {
+            return (int) sequence;
+        }
+    }
+}
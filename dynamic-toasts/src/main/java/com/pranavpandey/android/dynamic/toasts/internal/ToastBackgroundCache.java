@@ -0,0 +1,245 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.graphics.PorterDuff;
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.DrawableRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.core.content.ContextCompat;
+
+import com.pranavpandey.android.dynamic.util.DynamicDrawableUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded LRU cache to keep the colorized custom toast and hint backgrounds.
+ * <p>The cached backgrounds are tinted once and their constant state is shared by all
+ * the drawables returned by this cache.
+ */
+public final class ToastBackgroundCache {
+
+    /**
+     * Maximum number of backgrounds to be cached.
+     */
+    private static final int MAX_SIZE = 8;
+
+    /**
+     * Map to hold the colorized backgrounds in the least recently used order.
+     */
+    private static final Map<Key, Drawable.ConstantState> sCache =
+            new LinkedHashMap<Key, Drawable.ConstantState>(MAX_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<Key, Drawable.ConstantState> eldest) {
+                    return size() > MAX_SIZE;
+                }
+            };
+
+    /**
+     * Key used to look up the cache without any allocation.
+     */
+    private static final Key sLookupKey = new Key();
+
+    /**
+     * Number of times a background has been found in the cache.
+     */
+    private static final AtomicLong sHits = new AtomicLong();
+
+    /**
+     * Number of times a background has been colorized again.
+     */
+    private static final AtomicLong sMisses = new AtomicLong();
+
+    /**
+     * Configuration used to create the cached backgrounds.
+     */
+    private static @Nullable Configuration sConfiguration;
+
+    /**
+     * Making default constructor private to avoid instantiation.
+     */
+    private ToastBackgroundCache() { }
+
+    /**
+     * Get the background colorized with the supplied color.
+     *
+     * @param context The context to be used.
+     * @param resId The resource id of the default background.
+     * @param background The custom background to be used instead of the default one.
+     * @param color The color to colorize the background.
+     *
+     * @return The background colorized with the supplied color.
+     */
+    public static @Nullable Drawable get(@NonNull Context context, @DrawableRes int resId,
+            @Nullable Drawable background, @Nullable @ColorInt Integer color) {
+        if (color == null) {
+            return background != null ? background : ContextCompat.getDrawable(context, resId);
+        }
+
+        Resources resources = context.getResources();
+        @Nullable Drawable.ConstantState state;
+
+        synchronized (sCache) {
+            if (sConfiguration == null
+                    || sConfiguration.diff(resources.getConfiguration()) != 0) {
+                sCache.clear();
+                sConfiguration = new Configuration(resources.getConfiguration());
+            }
+
+            sLookupKey.set(background, resId, color);
+            state = sCache.get(sLookupKey);
+        }
+
+        if (state != null) {
+            sHits.incrementAndGet();
+            return state.newDrawable(resources);
+        }
+
+        sMisses.incrementAndGet();
+        @Nullable Drawable drawable = background != null
+                ? background : ContextCompat.getDrawable(context, resId);
+        @Nullable Drawable.ConstantState source = drawable != null
+                ? drawable.getConstantState() : null;
+        if (source == null) {
+            return DynamicDrawableUtils.colorizeDrawable(
+                    drawable, color, PorterDuff.Mode.MULTIPLY);
+        }
+
+        Drawable colorized = source.newDrawable(resources).mutate();
+        colorized.setTintList(ColorStateList.valueOf(color));
+        colorized.setTintMode(PorterDuff.Mode.MULTIPLY);
+
+        state = colorized.getConstantState();
+        if (state == null) {
+            return colorized;
+        }
+
+        synchronized (sCache) {
+            Key key = new Key();
+            key.set(background, resId, color);
+            sCache.put(key, state);
+        }
+
+        return colorized;
+    }
+
+    /**
+     * Clear all the cached backgrounds.
+     */
+    public static void clear() {
+        synchronized (sCache) {
+            sCache.clear();
+            sConfiguration = null;
+        }
+    }
+
+    /**
+     * Returns the number of times a background has been found in the cache.
+     *
+     * @return The number of times a background has been found in the cache.
+     */
+    public static long getHitCount() {
+        return sHits.get();
+    }
+
+    /**
+     * Returns the number of times a background has been colorized again.
+     *
+     * @return The number of times a background has been colorized again.
+     */
+    public static long getMissCount() {
+        return sMisses.get();
+    }
+
+    /**
+     * Returns the number of cached backgrounds.
+     *
+     * @return The number of cached backgrounds.
+     */
+    @VisibleForTesting
+    static int size() {
+        synchronized (sCache) {
+            return sCache.size();
+        }
+    }
+
+    /**
+     * Key to identify a colorized background.
+     */
+    private static final class Key {
+
+        /**
+         * The custom background.
+         * <p>{@code null} to use the default background.
+         */
+        @Nullable Drawable background;
+
+        /**
+         * The resource id of the default background.
+         */
+        @DrawableRes int resId;
+
+        /**
+         * The color to colorize the background.
+         */
+        @ColorInt int color;
+
+        /**
+         * Set the values for this key.
+         *
+         * @param background The custom background.
+         * @param resId The resource id of the default background.
+         * @param color The color to colorize the background.
+         */
+        void set(@Nullable Drawable background, @DrawableRes int resId, @ColorInt int color) {
+            this.background = background;
+            this.resId = background != null ? 0 : resId;
+            this.color = color;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object object) {
+            if (this == object) {
+                return true;
+            }
+
+            if (!(object instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) object;
+            return background == key.background && resId == key.resId && color == key.color;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = background != null ? System.identityHashCode(background) : resId;
+            return 31 * result + color;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.ColorFilter;
+import android.graphics.LinearGradient;
+import android.graphics.Paint;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.Shader;
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * A lightweight drawable to draw the default toast and hint backgrounds.
+ * <p>It draws the same rounded rectangle and shadow as {@code adt_toast_background} and
+ * {@code adt_hint_background} with the paint colors, so that the background color can be
+ * changed without colorizing the drawable.
+ * <p>It should be used only if the default background has not been overridden by the app.
+ *
+ * @see #isDefault(Context, int)
+ */
+public final class ToastBackgroundDrawable extends Drawable {
+
+    /**
+     * Color of the background before applying the background color.
+     */
+    private static final @ColorInt int COLOR_BACKGROUND = 0xEFFFFFFF;
+
+    /**
+     * Start color of the background shadow.
+     */
+    private static final @ColorInt int COLOR_SHADOW = 0x10000000;
+
+    /**
+     * Dimensions used to draw this background.
+     */
+    private final @NonNull ToastLayoutBuilder.Dimensions mDimensions;
+
+    /**
+     * Paint used to draw the background.
+     */
+    private final @NonNull Paint mPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    /**
+     * Paint used to draw the background shadow.
+     */
+    private final @NonNull Paint mShadowPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    /**
+     * Bounds of the background.
+     */
+    private final @NonNull RectF mRect = new RectF();
+
+    /**
+     * Bounds of the background shadow.
+     */
+    private final @NonNull RectF mShadowRect = new RectF();
+
+    /**
+     * Color of the background.
+     */
+    private @ColorInt int mColor;
+
+    /**
+     * Alpha of this drawable.
+     */
+    private int mAlpha = 255;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param context The context to be used.
+     * @param type The type of the background.
+     * @param color The color of the background.
+     *              <p>Pass {@code null} to use the default color.
+     *
+     * @see ToastViewPool#TYPE_TOAST
+     * @see ToastViewPool#TYPE_HINT
+     */
+    public ToastBackgroundDrawable(@NonNull Context context,
+            int type, @Nullable @ColorInt Integer color) {
+        this.mDimensions = ToastLayoutBuilder.getDimensions(context, type);
+
+        this.mColor = color != null ? color : Color.WHITE;
+
+        mShadowPaint.setDither(true);
+        updatePaints();
+    }
+
+    /**
+     * Checks whether the background drawable resource for the supplied type has not been
+     * overridden by the app, so that it can be drawn by this drawable.
+     * <p>It will be resolved again only if the configuration has been changed.
+     *
+     * @param context The context to be used.
+     * @param type The type of the background.
+     *
+     * @return {@code true} if the background drawable resource has not been overridden.
+     *
+     * @see ToastViewPool#TYPE_TOAST
+     * @see ToastViewPool#TYPE_HINT
+     */
+    public static boolean isDefault(@NonNull Context context, int type) {
+        return ToastLayoutBuilder.getDimensions(context, type).defaultBackground;
+    }
+
+    /**
+     * Checks whether this background can be used for the supplied context and type.
+     *
+     * @param context The context to be used.
+     * @param type The type of the background.
+     *
+     * @return {@code true} if this background can be used for the supplied context and type.
+     */
+    public boolean isCompatible(@NonNull Context context, int type) {
+        return mDimensions == ToastLayoutBuilder.getDimensions(context, type);
+    }
+
+    /**
+     * Set the color of this background.
+     * <p>It will be applied in the same way as the color was multiplied with the default
+     * background drawable.
+     *
+     * @param color The color to be set.
+     *              <p>Pass {@code null} to use the default color.
+     */
+    public void setColor(@Nullable @ColorInt Integer color) {
+        @ColorInt int backgroundColor = color != null ? color : Color.WHITE;
+        if (mColor != backgroundColor) {
+            mColor = backgroundColor;
+            updatePaints();
+            invalidateSelf();
+        }
+    }
+
+    /**
+     * Update the paint colors for the current color and alpha.
+     */
+    private void updatePaints() {
+        int alpha = Color.alpha(mColor) * mAlpha / 255;
+
+        mPaint.setColor(Color.argb(Color.alpha(COLOR_BACKGROUND) * alpha / 255,
+                Color.red(mColor), Color.green(mColor), Color.blue(mColor)));
+        mShadowPaint.setAlpha(alpha);
+    }
+
+    @Override
+    protected void onBoundsChange(@NonNull Rect bounds) {
+        super.onBoundsChange(bounds);
+
+        int shadow = mDimensions.shadow;
+        mShadowRect.set(bounds);
+        mRect.set(bounds.left + shadow, bounds.top + shadow,
+                bounds.right - shadow, bounds.bottom - shadow);
+        mShadowPaint.setShader(new LinearGradient(0, bounds.bottom, 0, bounds.top,
+                COLOR_SHADOW, Color.TRANSPARENT, Shader.TileMode.CLAMP));
+    }
+
+    @Override
+    public void draw(@NonNull Canvas canvas) {
+        float radius = mDimensions.cornerRadius;
+
+        canvas.drawRoundRect(mShadowRect, radius, radius, mShadowPaint);
+        canvas.drawRoundRect(mRect, radius, radius, mPaint);
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+        if (mAlpha != alpha) {
+            mAlpha = alpha;
+            updatePaints();
+            invalidateSelf();
+        }
+    }
+
+    @Override
+    public int getAlpha() {
+        return mAlpha;
+    }
+
+    @Override
+    public void setColorFilter(@Nullable ColorFilter colorFilter) {
+        mPaint.setColorFilter(colorFilter);
+        mShadowPaint.setColorFilter(colorFilter);
+        invalidateSelf();
+    }
+
+    @Override
+    public int getOpacity() {
+        return PixelFormat.TRANSLUCENT;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import androidx.annotation.ColorInt;
+
+import com.pranavpandey.android.dynamic.util.DynamicColorUtils;
+
+/**
+ * A small cache to memoize the tint and contrast colors used by the toasts.
+ * <p>The color pairs are packed into a {@code long} key and stored in an open addressing table,
+ * so the lookups do not box the colors or allocate any objects.
+ */
+public final class ToastColorCache {
+
+    /**
+     * Capacity of the tables, must be a power of two.
+     */
+    private static final int CAPACITY = 64;
+
+    /**
+     * Table to keep the tint colors.
+     */
+    private static final ToastHashTable sTintColors = new ToastHashTable(CAPACITY);
+
+    /**
+     * Table to keep the contrast colors.
+     */
+    private static final ToastHashTable sContrastColors = new ToastHashTable(CAPACITY);
+
+    /**
+     * Making default constructor private to avoid instantiation.
+     */
+    private ToastColorCache() { }
+
+    /**
+     * Get the tint color for the supplied color.
+     *
+     * @param color The color to get the tint color.
+     *
+     * @return The tint color for the supplied color.
+     *
+     * @see DynamicColorUtils#getTintColor(int)
+     */
+    public static @ColorInt int getTintColor(@ColorInt int color) {
+        long key = color & 0xFFFFFFFFL;
+
+        synchronized (sTintColors) {
+            int index = sTintColors.indexOf(key);
+            if (index >= 0) {
+                return (int) sTintColors.valueAt(index);
+            }
+        }
+
+        int tintColor = DynamicColorUtils.getTintColor(color);
+        synchronized (sTintColors) {
+            sTintColors.put(key, tintColor);
+        }
+
+        return tintColor;
+    }
+
+    /**
+     * Get the contrast color for the supplied color and background.
+     *
+     * @param color The color to get the contrast color.
+     * @param contrastWith The background color to check the contrast.
+     *
+     * @return The contrast color for the supplied color and background.
+     *
+     * @see DynamicColorUtils#getContrastColor(int, int)
+     */
+    public static @ColorInt int getContrastColor(
+            @ColorInt int color, @ColorInt int contrastWith) {
+        long key = ((long) color << 32) | (contrastWith & 0xFFFFFFFFL);
+
+        synchronized (sContrastColors) {
+            int index = sContrastColors.indexOf(key);
+            if (index >= 0) {
+                return (int) sContrastColors.valueAt(index);
+            }
+        }
+
+        int contrastColor = DynamicColorUtils.getContrastColor(color, contrastWith);
+        synchronized (sContrastColors) {
+            sContrastColors.put(key, contrastColor);
+        }
+
+        return contrastColor;
+    }
+
+    /**
+     * Clear all the cached colors.
+     */
+    public static void clear() {
+        synchronized (sTintColors) {
+            sTintColors.clear();
+        }
+
+        synchronized (sContrastColors) {
+            sContrastColors.clear();
+        }
+    }
+}
@@ -26,6 +26,10 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.StringRes;
 
+import com.pranavpandey.android.dynamic.toasts.ToastFailureListener;
+import com.pranavpandey.android.dynamic.toasts.ToastMetricsListener;
+import com.pranavpandey.android.dynamic.toasts.ToastRequest;
+import com.pranavpandey.android.dynamic.toasts.ToastScheduler;
 import com.pranavpandey.android.dynamic.util.DynamicSdkUtils;
 
 import java.lang.reflect.Field;
@@ -36,11 +40,62 @@ import java.lang.reflect.Field;
 @SuppressWarnings("deprecation")
 public final class ToastCompat extends Toast {
 
+    /**
+     * Constant when the context fix is not required on this API level.
+     */
+    public static final int CONTEXT_FIX_NOT_REQUIRED = 0;
+
+    /**
+     * Constant when the context fix is applied by using the cached view field.
+     */
+    public static final int CONTEXT_FIX_REFLECTION = 1;
+
+    /**
+     * Constant when the context fix is required but the view field is not available.
+     */
+    public static final int CONTEXT_FIX_UNAVAILABLE = 2;
+
+    /**
+     * Cached view field to set the toast context.
+     * <p>{@code null} if the context fix is not required or not available.
+     */
+    private static final @Nullable Field sContextField;
+
+    /**
+     * Result of the context fix probe.
+     */
+    private static final int sContextFix;
+
+    static {
+        @Nullable Field field = null;
+        int contextFix = CONTEXT_FIX_NOT_REQUIRED;
+
+        if (DynamicSdkUtils.is25()) {
+            try {
+                field = getContextField();
+                contextFix = CONTEXT_FIX_REFLECTION;
+            } catch (Throwable throwable) {
+                field = null;
+                contextFix = CONTEXT_FIX_UNAVAILABLE;
+                ToastFailures.record(ToastFailureListener.FAILURE_CONTEXT_FIX, throwable);
+            }
+        }
+
+        sContextField = field;
+        sContextFix = contextFix;
+    }
+
     /**
      * Base toast used by this toast compat.
      */
     private final @NonNull Toast mToast;
 
+    /**
+     * Type to submit this toast to the {@link ToastScheduler} when it is shown.
+     * <p>{@code -1} to show it through the system queue.
+     */
+    private int mScheduleType = -1;
+
     public ToastCompat(Context context, @NonNull Toast base) {
         super(context);
 
@@ -61,7 +116,9 @@ public final class ToastCompat extends Toast {
     public static ToastCompat makeText(@NonNull Context context,
             @Nullable CharSequence text, int duration) {
         Toast toast = Toast.makeText(context, text, duration);
-        setToastContext(toast.getView(), new ToastContext(context, toast));
+        if (sContextField != null) {
+            setToastContext(toast.getView(), new ToastContext(context, toast));
+        }
         return new ToastCompat(context, toast);
     }
 
@@ -80,28 +137,114 @@ public final class ToastCompat extends Toast {
         return makeText(context, context.getResources().getText(resId), duration);
     }
 
+    /**
+     * Returns the accessible view field to set the toast context.
+     *
+     * @return The accessible view field to set the toast context.
+     *
+     * @throws Exception If the field is not available on this device.
+     */
+    @SuppressLint("DiscouragedPrivateApi")
+    private static @NonNull Field getContextField() throws Exception {
+        Field field = View.class.getDeclaredField("mContext");
+        field.setAccessible(true);
+
+        return field;
+    }
+
+    /**
+     * Returns the result of the one-time probe for the bad token exception fix.
+     *
+     * @return The result of the one-time probe for the bad token exception fix.
+     *
+     * @see #CONTEXT_FIX_NOT_REQUIRED
+     * @see #CONTEXT_FIX_REFLECTION
+     * @see #CONTEXT_FIX_UNAVAILABLE
+     */
+    public static int getContextFix() {
+        return sContextFix;
+    }
+
     /**
      * Sets the toast context to fix bad token exception.
      *
      * @param view The view used by the toast
      * @param context The context used by the toast.
      */
-    @SuppressLint("DiscouragedPrivateApi")
     private static void setToastContext(@Nullable View view, @NonNull Context context) {
-        if (view != null && DynamicSdkUtils.is25()) {
+        if (view != null && sContextField != null) {
+            boolean trace = ToastTrace.isEnabled();
+            if (trace) {
+                ToastTrace.begin("ToastCompat.setToastContext");
+            }
+
             try {
-                Field field = View.class.getDeclaredField("mContext");
-                field.setAccessible(true);
-                field.set(view, context);
-            } catch (Throwable throwable) {
-                throwable.printStackTrace();
+                sContextField.set(view, context);
+            } catch (IllegalAccessException e) {
+                ToastFailures.record(ToastFailureListener.FAILURE_CONTEXT_FIX, e);
+            } finally {
+                if (trace) {
+                    ToastTrace.end();
+                }
             }
         }
     }
 
+    /**
+     * Set the type to submit this toast to the {@link ToastScheduler} when it is shown.
+     *
+     * @param type The type of the toast.
+     *             <p>Pass {@code -1} to show it through the system queue.
+     *
+     * @see ToastRequest#TYPE_DEFAULT
+     * @see ToastRequest#TYPE_ERROR
+     * @see ToastRequest#TYPE_SUCCESS
+     * @see ToastRequest#TYPE_WARNING
+     */
+    public void setScheduleType(int type) {
+        this.mScheduleType = type;
+    }
+
     @Override
     public void show() {
-        mToast.show();
+        if (mScheduleType != -1) {
+            ToastScheduler.submit(this, mScheduleType);
+        } else {
+            showNow();
+        }
+    }
+
+    /**
+     * Show this toast through the system queue without submitting it to the scheduler.
+     */
+    public void showNow() {
+        @Nullable ToastMetricsListener metrics = ToastMetrics.getListener();
+        long start = metrics != null ? System.nanoTime() : 0;
+        boolean trace = ToastTrace.isEnabled();
+        if (trace) {
+            ToastTrace.begin("ToastCompat.show");
+        }
+
+        try {
+            mToast.show();
+        } finally {
+            if (trace) {
+                ToastTrace.end();
+            }
+        }
+
+        if (metrics != null) {
+            metrics.onToastStage(ToastMetricsListener.STAGE_SHOW, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void cancel() {
+        if (mScheduleType != -1) {
+            ToastScheduler.cancel(this);
+        }
+
+        mToast.cancel();
     }
 
     @Override
@@ -132,7 +275,16 @@ public final class ToastCompat extends Toast {
     @Override
     public void setView(View view) {
         mToast.setView(view);
-        setToastContext(view, new ToastContext(view.getContext(), this));
+        if (sContextField == null) {
+            return;
+        }
+
+        Context context = view.getContext();
+        if (context instanceof ToastContext) {
+            context = ((ToastContext) context).getBaseContext();
+        }
+
+        setToastContext(view, new ToastContext(context, this));
     }
 
     @Override
@@ -27,11 +27,30 @@ import android.widget.Toast;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.pranavpandey.android.dynamic.toasts.ToastFailureListener;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * A ContextWrapper to fix bad token exception.
  */
 public final class ToastContext extends ContextWrapper {
 
+    /**
+     * Weak reference to the application context wrapper used by the toasts.
+     */
+    private static volatile @NonNull WeakReference<ApplicationContextWrapper> sApplicationContext =
+            new WeakReference<>(null);
+
+    /**
+     * Window manager wrappers for each window manager.
+     * <p>The values are weakly referenced as the wrappers hold their window manager.
+     */
+    private static final Map<WindowManager, WeakReference<WindowManagerWrapper>>
+            sWindowManagers = new WeakHashMap<>();
+
     /**
      * Boast used by this context wrapper.
      */
@@ -51,7 +70,35 @@ public final class ToastContext extends ContextWrapper {
 
     @Override
     public Context getApplicationContext() {
-        return new ApplicationContextWrapper(getBaseContext().getApplicationContext());
+        Context context = getBaseContext().getApplicationContext();
+        @Nullable ApplicationContextWrapper wrapper = sApplicationContext.get();
+        if (wrapper == null || wrapper.getBaseContext() != context) {
+            wrapper = new ApplicationContextWrapper(context);
+            sApplicationContext = new WeakReference<>(wrapper);
+        }
+
+        return wrapper;
+    }
+
+    /**
+     * Returns the wrapper for the supplied window manager.
+     *
+     * @param windowManager The window manager to be wrapped.
+     *
+     * @return The wrapper for the supplied window manager.
+     */
+    static @NonNull WindowManagerWrapper getWindowManager(@NonNull WindowManager windowManager) {
+        synchronized (sWindowManagers) {
+            @Nullable WeakReference<WindowManagerWrapper> reference =
+                    sWindowManagers.get(windowManager);
+            @Nullable WindowManagerWrapper wrapper = reference != null ? reference.get() : null;
+            if (wrapper == null) {
+                wrapper = new WindowManagerWrapper(windowManager);
+                sWindowManagers.put(windowManager, new WeakReference<>(wrapper));
+            }
+
+            return wrapper;
+        }
     }
 
     /**
@@ -76,7 +123,7 @@ public final class ToastContext extends ContextWrapper {
             }
 
             if (service != null) {
-                return new WindowManagerWrapper((WindowManager) service);
+                return getWindowManager((WindowManager) service);
             }
 
             return super.getSystemService(name);
@@ -118,9 +165,9 @@ public final class ToastContext extends ContextWrapper {
             try {
                 base.addView(view, params);
             } catch (BadTokenException e) {
-                e.printStackTrace();
+                ToastFailures.record(ToastFailureListener.FAILURE_BAD_TOKEN, e);
             } catch (Throwable throwable) {
-                throwable.printStackTrace();
+                ToastFailures.record(ToastFailureListener.FAILURE_ADD_VIEW, throwable);
             }
         }
 
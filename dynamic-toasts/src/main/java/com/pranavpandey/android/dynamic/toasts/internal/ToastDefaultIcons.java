@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.graphics.drawable.Drawable;
+import android.util.SparseArray;
+
+import androidx.annotation.DrawableRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.content.ContextCompat;
+
+/**
+ * A cache to keep the constant state of the bundled default icons, so that a new icon can be
+ * created for every toast without looking up the resources.
+ * <p>The cached states are cleared on a configuration change to load the icons for the
+ * current density.
+ */
+public final class ToastDefaultIcons {
+
+    /**
+     * Constant states of the default icons for their resource id.
+     */
+    private static final SparseArray<Drawable.ConstantState> sStates = new SparseArray<>();
+
+    /**
+     * Configuration used to load the cached icons.
+     */
+    private static @Nullable Configuration sConfiguration;
+
+    /**
+     * Making default constructor private to avoid instantiation.
+     */
+    private ToastDefaultIcons() { }
+
+    /**
+     * Get a new instance of the supplied default icon.
+     *
+     * @param context The context to be used.
+     * @param resId The resource id of the default icon.
+     *
+     * @return A new instance of the supplied default icon.
+     */
+    public static @Nullable Drawable get(@NonNull Context context, @DrawableRes int resId) {
+        Resources resources = context.getResources();
+        @Nullable Drawable.ConstantState state;
+
+        synchronized (sStates) {
+            if (sConfiguration == null
+                    || sConfiguration.diff(resources.getConfiguration()) != 0) {
+                sStates.clear();
+                sConfiguration = new Configuration(resources.getConfiguration());
+            }
+
+            state = sStates.get(resId);
+        }
+
+        if (state != null) {
+            return state.newDrawable(resources);
+        }
+
+        @Nullable Drawable icon = ContextCompat.getDrawable(context, resId);
+        state = icon != null ? icon.getConstantState() : null;
+        if (state != null) {
+            synchronized (sStates) {
+                sStates.put(resId, state);
+            }
+        }
+
+        return icon;
+    }
+
+    /**
+     * Clear all the cached icons.
+     */
+    public static void clear() {
+        synchronized (sStates) {
+            sStates.clear();
+            sConfiguration = null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.os.Process;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A background executor to perform the toast work off the main thread.
+ */
+public final class ToastExecutor {
+
+    /**
+     * Name of the background thread.
+     */
+    private static final String THREAD_NAME = "DynamicToasts";
+
+    /**
+     * Executor service used by this class.
+     */
+    private static volatile ExecutorService sExecutor;
+
+    /**
+     * Making default constructor private to avoid instantiation.
+     */
+    private ToastExecutor() { }
+
+    /**
+     * Get the executor service to perform the background work.
+     *
+     * @return The executor service to perform the background work.
+     */
+    public static @NonNull ExecutorService getExecutor() {
+        if (sExecutor == null) {
+            synchronized (ToastExecutor.class) {
+                if (sExecutor == null) {
+                    sExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                        @Override
+                        public Thread newThread(@NonNull final Runnable runnable) {
+                            Thread thread = new Thread(new Runnable() {
+                                @Override
+                                public void run() {
+                                    Process.setThreadPriority(
+                                            Process.THREAD_PRIORITY_BACKGROUND);
+                                    runnable.run();
+                                }
+                            }, THREAD_NAME);
+                            thread.setDaemon(true);
+
+                            return thread;
+                        }
+                    });
+                }
+            }
+        }
+
+        return sExecutor;
+    }
+
+    /**
+     * Execute the supplied runnable on the background thread.
+     *
+     * @param runnable The runnable to be executed.
+     */
+    public static void execute(@NonNull Runnable runnable) {
+        getExecutor().execute(runnable);
+    }
+}
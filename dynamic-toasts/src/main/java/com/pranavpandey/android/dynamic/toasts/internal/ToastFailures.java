@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.toasts.ToastFailureListener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Helper class to count the toast failures and report them to the
+ * {@link ToastFailureListener}.
+ */
+public final class ToastFailures {
+
+    /**
+     * Default number of failures to record the stack trace for one of them.
+     */
+    public static final int DEFAULT_SAMPLE_RATE = 100;
+
+    /**
+     * Tag used to log the sampled failures when no listener has been set.
+     */
+    private static final String TAG = "DynamicToasts";
+
+    /**
+     * Number of failures for each type.
+     */
+    private static final AtomicLongArray sCounts =
+            new AtomicLongArray(ToastFailureListener.FAILURE_COUNT);
+
+    /**
+     * Listener to receive the failures.
+     */
+    private static volatile @Nullable ToastFailureListener sListener;
+
+    /**
+     * Number of failures to record the stack trace for one of them.
+     */
+    private static volatile int sSampleRate = DEFAULT_SAMPLE_RATE;
+
+    /**
+     * Making default constructor private to avoid instantiation.
+     */
+    private ToastFailures() { }
+
+    /**
+     * Record a failure for the supplied type.
+     * <p>The first failure and then one in every sample rate failures for each type will
+     * record the stack trace.
+     *
+     * @param type The type of the failure.
+     * @param throwable The throwable for the failure.
+     */
+    public static void record(int type, @NonNull Throwable throwable) {
+        long count = sCounts.incrementAndGet(type);
+        int sampleRate = sSampleRate;
+        boolean sampled = sampleRate > 0 && (count - 1) % sampleRate == 0;
+
+        @Nullable ToastFailureListener listener = sListener;
+        if (listener != null) {
+            listener.onToastFailure(type, count, sampled ? throwable : null);
+        } else if (sampled) {
+            Log.w(TAG, "Toast failure " + type + " (" + count + " total)", throwable);
+        }
+    }
+
+    /**
+     * Returns the number of failures for the supplied type.
+     *
+     * @param type The type of the failure.
+     *
+     * @return The number of failures for the supplied type.
+     *
+     * @throws IllegalArgumentException If the supplied type is not a failure type.
+     */
+    public static long getCount(int type) {
+        if (type < 0 || type >= ToastFailureListener.FAILURE_COUNT) {
+            throw new IllegalArgumentException("Invalid failure type: " + type);
+        }
+
+        return sCounts.get(type);
+    }
+
+    /**
+     * Set the listener to receive the failures.
+     *
+     * @param listener The listener to be set.
+     */
+    public static void setListener(@Nullable ToastFailureListener listener) {
+        sListener = listener;
+    }
+
+    /**
+     * Set the number of failures to record the stack trace for one of them.
+     *
+     * @param sampleRate The number of failures to record the stack trace for one of them.
+     *                   <p>Pass {@code 0} to never record the stack trace.
+     */
+    public static void setSampleRate(int sampleRate) {
+        sSampleRate = Math.max(0, sampleRate);
+    }
+}
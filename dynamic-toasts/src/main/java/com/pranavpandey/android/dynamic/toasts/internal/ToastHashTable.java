@@ -0,0 +1,202 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+/**
+ * A bounded open addressing table with the {@code long} keys and values.
+ * <p>The lookups do not box the keys or allocate any objects. It is not thread-safe, so it
+ * must be accessed while holding a lock.
+ */
+public final class ToastHashTable {
+
+    /**
+     * Maximum number of slots to probe before replacing an entry.
+     */
+    private static final int MAX_PROBES = 8;
+
+    /**
+     * Keys stored in the table.
+     */
+    private final long[] mKeys;
+
+    /**
+     * Values stored in the table.
+     */
+    private final long[] mValues;
+
+    /**
+     * {@code true} if the slot in the table has been used.
+     */
+    private final boolean[] mUsed;
+
+    /**
+     * Number of bits to shift the hash to get an index in the table.
+     */
+    private final int mShift;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param capacity The capacity of the table, must be a power of two.
+     */
+    public ToastHashTable(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(
+                    "Capacity must be a power of two: " + capacity);
+        }
+
+        this.mKeys = new long[capacity];
+        this.mValues = new long[capacity];
+        this.mUsed = new boolean[capacity];
+        this.mShift = 64 - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    /**
+     * Returns the capacity of this table.
+     *
+     * @return The capacity of this table.
+     */
+    public int capacity() {
+        return mKeys.length;
+    }
+
+    /**
+     * Returns the index of the supplied key in this table.
+     *
+     * @param key The key to be found.
+     *
+     * @return The index of the supplied key in this table, otherwise {@code -1}.
+     */
+    public int indexOf(long key) {
+        int index = hash(key);
+        for (int i = 0; i < MAX_PROBES; i++) {
+            if (!mUsed[index]) {
+                return -1;
+            }
+
+            if (mKeys[index] == key) {
+                return index;
+            }
+
+            index = (index + 1) & (mKeys.length - 1);
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the value at the supplied index.
+     *
+     * @param index The index returned by {@link #indexOf(long)}.
+     *
+     * @return The value at the supplied index.
+     */
+    public long valueAt(int index) {
+        return mValues[index];
+    }
+
+    /**
+     * Set the value at the supplied index.
+     *
+     * @param index The index returned by {@link #indexOf(long)}.
+     * @param value The value to be set.
+     */
+    public void setValueAt(int index, long value) {
+        mValues[index] = value;
+    }
+
+    /**
+     * Put the value for the supplied key in this table.
+     * <p>It will replace the entry at the home slot if no free slot can be found.
+     *
+     * @param key The key for the value.
+     * @param value The value to be stored.
+     *
+     * @return The index of the supplied key in this table.
+     */
+    public int put(long key, long value) {
+        return put(key, value, Long.MIN_VALUE);
+    }
+
+    /**
+     * Put the value for the supplied key in this table.
+     * <p>The slots with a value not greater than the supplied expired value will be reused
+     * as the free slots. The whole probe chain is checked for the key before reusing a slot,
+     * so that a live entry for the key cannot be left behind it. It will replace the entry
+     * at the home slot if no free slot can be found.
+     *
+     * @param key The key for the value.
+     * @param value The value to be stored.
+     * @param expired The value up to which an entry can be replaced.
+     *
+     * @return The index of the supplied key in this table.
+     */
+    public int put(long key, long value, long expired) {
+        int index = hash(key);
+        int slot = index;
+        int free = -1;
+        for (int i = 0; i < MAX_PROBES; i++) {
+            if (!mUsed[slot]) {
+                if (free == -1) {
+                    free = slot;
+                }
+                break;
+            }
+
+            if (mKeys[slot] == key) {
+                free = slot;
+                break;
+            }
+
+            if (free == -1 && mValues[slot] <= expired) {
+                free = slot;
+            }
+
+            slot = (slot + 1) & (mKeys.length - 1);
+        }
+
+        if (free != -1) {
+            index = free;
+        }
+
+        mKeys[index] = key;
+        mValues[index] = value;
+        mUsed[index] = true;
+
+        return index;
+    }
+
+    /**
+     * Clear all the entries in this table.
+     */
+    public void clear() {
+        for (int i = 0; i < mUsed.length; i++) {
+            mUsed[i] = false;
+        }
+    }
+
+    /**
+     * Returns the home slot for the supplied key.
+     *
+     * @param key The key to be hashed.
+     *
+     * @return The home slot for the supplied key.
+     */
+    private int hash(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> mShift);
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.content.res.Configuration;
+import android.graphics.Rect;
+import android.util.SparseIntArray;
+import android.view.View;
+import android.view.ViewTreeObserver;
+import android.view.WindowInsets;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.util.DynamicSdkUtils;
+import com.pranavpandey.android.dynamic.util.DynamicUnitUtils;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Helper class to position the hints without querying the window for every hint.
+ * <p>The visible display frame is cached for each window and refreshed only after its layout,
+ * its location on the screen or its window insets have been changed. The pixel values are
+ * cached for the current configuration and the scratch buffers are reused for every call.
+ * <p>It must be accessed on the main thread.
+ */
+public final class ToastHintPositioner {
+
+    /**
+     * Visible display frames for each root view.
+     */
+    private static final Map<View, Frame> sFrames = new WeakHashMap<>();
+
+    /**
+     * Pixel values for the dips in the current configuration.
+     */
+    private static final SparseIntArray sPixels = new SparseIntArray();
+
+    /**
+     * Scratch buffer for the location of a view on the screen.
+     */
+    private static final int[] sLocation = new int[2];
+
+    /**
+     * Scratch buffer for the location of a root view on the screen.
+     */
+    private static final int[] sRootLocation = new int[2];
+
+    /**
+     * Scratch buffer for the visible display frame of an unattached view.
+     */
+    private static final Rect sScratchFrame = new Rect();
+
+    /**
+     * Configuration used to convert the cached pixel values.
+     */
+    private static @Nullable Configuration sConfiguration;
+
+    /**
+     * Making default constructor private to avoid instantiation.
+     */
+    private ToastHintPositioner() { }
+
+    /**
+     * Returns the visible display frame of the window for the supplied view.
+     * <p>The returned rect is shared and must not be modified or retained.
+     *
+     * @param view The view to get the visible display frame.
+     *
+     * @return The visible display frame of the window for the supplied view.
+     */
+    public static @NonNull Rect getVisibleFrame(@NonNull View view) {
+        if (!view.isAttachedToWindow()) {
+            view.getWindowVisibleDisplayFrame(sScratchFrame);
+            return sScratchFrame;
+        }
+
+        View root = view.getRootView();
+        @Nullable Frame frame = sFrames.get(root);
+        if (frame == null || frame.observer.get() != root.getViewTreeObserver()) {
+            if (frame != null) {
+                frame.release();
+            }
+
+            frame = new Frame(root.getViewTreeObserver());
+            sFrames.put(root, frame);
+        }
+
+        root.getLocationOnScreen(sRootLocation);
+        @Nullable WindowInsets insets = DynamicSdkUtils.is23() ? root.getRootWindowInsets() : null;
+        if (frame.isChanged(sRootLocation, insets)) {
+            view.getWindowVisibleDisplayFrame(frame.rect);
+            frame.left = sRootLocation[0];
+            frame.top = sRootLocation[1];
+            frame.insets = insets;
+            frame.dirty = false;
+        }
+
+        return frame.rect;
+    }
+
+    /**
+     * Returns the location of the supplied view on the screen.
+     * <p>The returned array is shared and must not be modified or retained.
+     *
+     * @param view The view to get the location.
+     *
+     * @return The location of the supplied view on the screen.
+     */
+    public static @NonNull int[] getLocationOnScreen(@NonNull View view) {
+        view.getLocationOnScreen(sLocation);
+
+        return sLocation;
+    }
+
+    /**
+     * Converts the dips into pixels for the configuration of the supplied view.
+     *
+     * @param view The view to get the configuration.
+     * @param dp The value in dips to be converted.
+     *
+     * @return The value in pixels.
+     */
+    public static int toPixels(@NonNull View view, int dp) {
+        Configuration configuration = view.getResources().getConfiguration();
+        if (sConfiguration == null || sConfiguration.diff(configuration) != 0) {
+            sPixels.clear();
+            sConfiguration = new Configuration(configuration);
+        }
+
+        int index = sPixels.indexOfKey(dp);
+        if (index >= 0) {
+            return sPixels.valueAt(index);
+        }
+
+        int pixels = DynamicUnitUtils.convertDpToPixels(dp);
+        sPixels.put(dp, pixels);
+
+        return pixels;
+    }
+
+    /**
+     * Clear all the cached values and stop tracking the layout of the windows.
+     * <p>It must be called on the main thread.
+     */
+    public static void clear() {
+        for (Frame frame : sFrames.values()) {
+            frame.release();
+        }
+
+        sFrames.clear();
+        sPixels.clear();
+        sConfiguration = null;
+    }
+
+    /**
+     * Visible display frame of a window which will be invalidated on its layout, or if its
+     * location or insets have been changed.
+     */
+    private static final class Frame implements ViewTreeObserver.OnGlobalLayoutListener {
+
+        /**
+         * The view tree observer used to track the layout.
+         * <p>It is weakly referenced as the observer may hold the root view via its context.
+         */
+        final @NonNull WeakReference<ViewTreeObserver> observer;
+
+        /**
+         * The visible display frame of the window.
+         */
+        final @NonNull Rect rect = new Rect();
+
+        /**
+         * {@code true} if the frame has to be queried again.
+         */
+        boolean dirty = true;
+
+        /**
+         * The left location of the root view on the screen when the frame was queried.
+         */
+        int left;
+
+        /**
+         * The top location of the root view on the screen when the frame was queried.
+         */
+        int top;
+
+        /**
+         * The window insets of the root view when the frame was queried.
+         */
+        @Nullable WindowInsets insets;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param observer The view tree observer used to track the layout.
+         */
+        Frame(@NonNull ViewTreeObserver observer) {
+            this.observer = new WeakReference<>(observer);
+
+            observer.addOnGlobalLayoutListener(this);
+        }
+
+        /**
+         * Checks whether the frame has to be queried again.
+         *
+         * @param location The current location of the root view on the screen.
+         * @param insets The current window insets of the root view.
+         *
+         * @return {@code true} if the frame has to be queried again.
+         */
+        boolean isChanged(@NonNull int[] location, @Nullable WindowInsets insets) {
+            return dirty || left != location[0] || top != location[1]
+                    || (insets != null ? !insets.equals(this.insets) : this.insets != null);
+        }
+
+        /**
+         * Stop tracking the layout of the window.
+         */
+        void release() {
+            @Nullable ViewTreeObserver observer = this.observer.get();
+            if (observer != null && observer.isAlive()) {
+                observer.removeOnGlobalLayoutListener(this);
+            }
+        }
+
+        @Override
+        public void onGlobalLayout() {
+            dirty = true;
+        }
+    }
+}
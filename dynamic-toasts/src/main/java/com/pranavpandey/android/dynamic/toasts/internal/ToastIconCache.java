@@ -0,0 +1,306 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.PorterDuff;
+import android.graphics.Rect;
+import android.graphics.drawable.Animatable;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded LRU cache to keep the toast and hint icons as bitmaps which are already tinted
+ * and scaled to the size of the icon view.
+ * <p>The icon view can draw the cached bitmap without any color filter or scaling. The cache
+ * is bounded by the total bytes of the bitmaps and cleared on a configuration change.
+ */
+public final class ToastIconCache {
+
+    /**
+     * Maximum number of bytes for all the cached bitmaps.
+     */
+    private static final int MAX_BYTES = 512 * 1024;
+
+    /**
+     * Map to hold the icon bitmaps in the least recently used order.
+     */
+    private static final Map<Key, Bitmap> sCache = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Key used to look up the cache without any allocation.
+     */
+    private static final Key sLookupKey = new Key();
+
+    /**
+     * Number of times an icon has been found in the cache.
+     */
+    private static final AtomicLong sHits = new AtomicLong();
+
+    /**
+     * Number of times an icon has been drawn again.
+     */
+    private static final AtomicLong sMisses = new AtomicLong();
+
+    /**
+     * Total bytes of the cached bitmaps.
+     */
+    private static int sBytes;
+
+    /**
+     * Configuration used to draw the cached bitmaps.
+     */
+    private static @Nullable Configuration sConfiguration;
+
+    /**
+     * Making default constructor private to avoid instantiation.
+     */
+    private ToastIconCache() { }
+
+    /**
+     * Get the icon tinted with the supplied color and scaled to the supplied size.
+     *
+     * @param context The context to be used.
+     * @param icon The icon to be drawn.
+     * @param color The color to tint the icon.
+     *              <p>Pass {@code null} to keep the icon colors.
+     * @param width The width of the icon view in pixels.
+     * @param height The height of the icon view in pixels.
+     *
+     * @return The icon tinted with the supplied color and scaled to the supplied size.
+     *         <p>{@code null} if the icon cannot be cached, so that it should be tinted by
+     *         the icon view.
+     */
+    public static @Nullable Drawable get(@NonNull Context context, @NonNull Drawable icon,
+            @Nullable @ColorInt Integer color, int width, int height) {
+        if (width <= 0 || height <= 0 || icon instanceof Animatable) {
+            return null;
+        }
+
+        Resources resources = context.getResources();
+        // The resource icons are identified by their shared state as every call creates
+        // a new drawable for them.
+        @Nullable Drawable.ConstantState state = icon.getConstantState();
+        Object source = state != null ? state : icon;
+        @Nullable Bitmap bitmap;
+
+        synchronized (sCache) {
+            if (sConfiguration == null
+                    || sConfiguration.diff(resources.getConfiguration()) != 0) {
+                clear();
+                sConfiguration = new Configuration(resources.getConfiguration());
+            }
+
+            sLookupKey.set(source, color, width, height);
+            bitmap = sCache.get(sLookupKey);
+        }
+
+        if (bitmap != null) {
+            sHits.incrementAndGet();
+            return new BitmapDrawable(resources, bitmap);
+        }
+
+        sMisses.incrementAndGet();
+        bitmap = draw(icon, color, width, height);
+        bitmap.setDensity(resources.getDisplayMetrics().densityDpi);
+
+        synchronized (sCache) {
+            Key key = new Key();
+            key.set(source, color, width, height);
+            @Nullable Bitmap previous = sCache.put(key, bitmap);
+            if (previous != null) {
+                sBytes -= previous.getByteCount();
+            }
+            sBytes += bitmap.getByteCount();
+
+            Iterator<Bitmap> iterator = sCache.values().iterator();
+            while (sBytes > MAX_BYTES && iterator.hasNext()) {
+                sBytes -= iterator.next().getByteCount();
+                iterator.remove();
+            }
+        }
+
+        return new BitmapDrawable(resources, bitmap);
+    }
+
+    /**
+     * Draw the icon into a bitmap by centering it inside the supplied size.
+     *
+     * @param icon The icon to be drawn.
+     * @param color The color to tint the icon.
+     * @param width The width of the bitmap.
+     * @param height The height of the bitmap.
+     *
+     * @return The bitmap with the tinted and scaled icon.
+     */
+    private static @NonNull Bitmap draw(@NonNull Drawable icon,
+            @Nullable @ColorInt Integer color, int width, int height) {
+        int iconWidth = width;
+        int iconHeight = height;
+        if (icon.getIntrinsicWidth() > 0 && icon.getIntrinsicHeight() > 0) {
+            float scale = Math.min((float) width / icon.getIntrinsicWidth(),
+                    (float) height / icon.getIntrinsicHeight());
+            iconWidth = Math.round(icon.getIntrinsicWidth() * scale);
+            iconHeight = Math.round(icon.getIntrinsicHeight() * scale);
+        }
+
+        Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(bitmap);
+        Rect bounds = icon.copyBounds();
+        int left = (width - iconWidth) / 2;
+        int top = (height - iconHeight) / 2;
+
+        // Restore the bounds as the icon may be shared with other views.
+        icon.setBounds(left, top, left + iconWidth, top + iconHeight);
+        icon.draw(canvas);
+        icon.setBounds(bounds);
+
+        if (color != null) {
+            // Same as the default color filter mode of the image view.
+            canvas.drawColor(color, PorterDuff.Mode.SRC_ATOP);
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Clear all the cached icons.
+     */
+    public static void clear() {
+        synchronized (sCache) {
+            sCache.clear();
+            sBytes = 0;
+            sConfiguration = null;
+        }
+    }
+
+    /**
+     * Returns the number of times an icon has been found in the cache.
+     *
+     * @return The number of times an icon has been found in the cache.
+     */
+    public static long getHitCount() {
+        return sHits.get();
+    }
+
+    /**
+     * Returns the number of times an icon has been drawn again.
+     *
+     * @return The number of times an icon has been drawn again.
+     */
+    public static long getMissCount() {
+        return sMisses.get();
+    }
+
+    /**
+     * Returns the number of cached icons.
+     *
+     * @return The number of cached icons.
+     */
+    @VisibleForTesting
+    static int size() {
+        synchronized (sCache) {
+            return sCache.size();
+        }
+    }
+
+    /**
+     * Key to identify a cached icon.
+     */
+    private static final class Key {
+
+        /**
+         * The icon or its constant state.
+         */
+        @Nullable Object source;
+
+        /**
+         * {@code true} if the icon has been tinted.
+         */
+        boolean tinted;
+
+        /**
+         * The color to tint the icon.
+         */
+        @ColorInt int color;
+
+        /**
+         * The width of the icon view.
+         */
+        int width;
+
+        /**
+         * The height of the icon view.
+         */
+        int height;
+
+        /**
+         * Set the values for this key.
+         *
+         * @param source The icon or its constant state.
+         * @param color The color to tint the icon.
+         * @param width The width of the icon view.
+         * @param height The height of the icon view.
+         */
+        void set(@NonNull Object source, @Nullable @ColorInt Integer color,
+                int width, int height) {
+            this.source = source;
+            this.tinted = color != null;
+            this.color = color != null ? color : 0;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object object) {
+            if (this == object) {
+                return true;
+            }
+
+            if (!(object instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) object;
+            return source == key.source && tinted == key.tinted && color == key.color
+                    && width == key.width && height == key.height;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(source);
+            result = 31 * result + (tinted ? 1 : 0);
+            result = 31 * result + color;
+            result = 31 * result + width;
+            return 31 * result + height;
+        }
+    }
+}
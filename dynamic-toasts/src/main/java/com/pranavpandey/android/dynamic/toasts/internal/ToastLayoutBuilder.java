@@ -0,0 +1,213 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Color;
+import android.graphics.drawable.Drawable;
+import android.graphics.drawable.LayerDrawable;
+import android.util.TypedValue;
+import android.view.Gravity;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+import android.widget.ImageView;
+import android.widget.LinearLayout;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.toasts.R;
+
+/**
+ * Helper class to build the toast and hint layouts programmatically.
+ * <p>It creates the same view hierarchy as {@code adt_layout_toast} and {@code adt_layout_hint}
+ * without using the {@link android.view.LayoutInflater}, and the dimensions are resolved only
+ * once for each pooled theme and configuration.
+ */
+public final class ToastLayoutBuilder {
+
+    /**
+     * Making default constructor private to avoid instantiation.
+     */
+    private ToastLayoutBuilder() { }
+
+    /**
+     * Build the layout for the supplied type.
+     *
+     * @param context The context to be used.
+     * @param type The type of the layout.
+     * @param icon {@code true} to add the icon view.
+     *
+     * @return The layout for the supplied type.
+     *
+     * @see ToastViewPool#TYPE_TOAST
+     * @see ToastViewPool#TYPE_HINT
+     */
+    public static @NonNull View build(@NonNull Context context, int type, boolean icon) {
+        return build(context, getDimensions(context, type), type, icon);
+    }
+
+    /**
+     * Build the toast or hint layout with the supplied dimensions.
+     *
+     * @param context The context to be used.
+     * @param dimensions The dimensions resolved for the supplied type.
+     * @param type The type of the layout.
+     * @param icon {@code true} to add the icon view.
+     *
+     * @return The layout for the supplied type.
+     */
+    static @NonNull View build(@NonNull Context context,
+            @NonNull Dimensions dimensions, int type, boolean icon) {
+        boolean hint = type == ToastViewPool.TYPE_HINT;
+
+        FrameLayout root = new FrameLayout(context);
+        root.setId(R.id.adt_hint);
+        root.setLayoutParams(new ViewGroup.LayoutParams(
+                ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+        root.setBackgroundColor(Color.TRANSPARENT);
+
+        LinearLayout container = new LinearLayout(context);
+        if (!hint) {
+            container.setId(R.id.adt_toast);
+        }
+        container.setPadding(dimensions.paddingHorizontal, dimensions.paddingVertical,
+                dimensions.paddingHorizontal, dimensions.paddingVertical);
+        container.setOrientation(LinearLayout.HORIZONTAL);
+        container.setGravity(Gravity.CENTER);
+        container.setBackgroundColor(Color.TRANSPARENT);
+        root.addView(container, new FrameLayout.LayoutParams(
+                ViewGroup.LayoutParams.WRAP_CONTENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+
+        if (icon) {
+            ImageView iconView = new ImageView(context);
+            iconView.setId(hint ? R.id.adt_hint_icon : R.id.adt_toast_icon);
+            iconView.setContentDescription(null);
+
+            LinearLayout.LayoutParams params = new LinearLayout.LayoutParams(
+                    dimensions.iconSize, dimensions.iconSize);
+            params.rightMargin = dimensions.margin;
+            params.setMarginEnd(dimensions.margin);
+            container.addView(iconView, params);
+        }
+
+        TextView textView = new TextView(context);
+        textView.setId(hint ? R.id.adt_hint_text : R.id.adt_toast_text);
+        textView.setTextAlignment(View.TEXT_ALIGNMENT_VIEW_START);
+        textView.setGravity(Gravity.START);
+        textView.setTextSize(TypedValue.COMPLEX_UNIT_PX, dimensions.textSize);
+        container.addView(textView, new LinearLayout.LayoutParams(
+                ViewGroup.LayoutParams.WRAP_CONTENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+
+        return root;
+    }
+
+    /**
+     * Get the resolved dimensions for the supplied type.
+     * <p>They are kept with the pooled views for the context theme, and will be resolved
+     * again only if the configuration has been changed.
+     *
+     * @param context The context to be used.
+     * @param type The type of the layout.
+     *
+     * @return The resolved dimensions for the supplied type.
+     *
+     * @see ToastViewPool#getDimensions(Context, int)
+     */
+    static @NonNull Dimensions getDimensions(@NonNull Context context, int type) {
+        return ToastViewPool.getDimensions(context, type);
+    }
+
+    /**
+     * Dimensions resolved for a layout type.
+     */
+    static final class Dimensions {
+
+        /**
+         * Text size in pixels.
+         */
+        final int textSize;
+
+        /**
+         * Icon size in pixels.
+         */
+        final int iconSize;
+
+        /**
+         * Top and bottom padding in pixels.
+         */
+        final int paddingVertical;
+
+        /**
+         * Right and left padding in pixels.
+         */
+        final int paddingHorizontal;
+
+        /**
+         * Margin between the icon and text in pixels.
+         */
+        final int margin;
+
+        /**
+         * Corner radius of the background in pixels.
+         */
+        final float cornerRadius;
+
+        /**
+         * Width of the background shadow in pixels.
+         */
+        final int shadow;
+
+        /**
+         * {@code true} if the background drawable resource has not been overridden by the app.
+         */
+        final boolean defaultBackground;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param resources The resources to be used.
+         * @param hint {@code true} to resolve the hint dimensions.
+         */
+        Dimensions(@NonNull Resources resources, boolean hint) {
+            this.textSize = resources.getDimensionPixelSize(hint
+                    ? R.dimen.adt_font_hint : R.dimen.adt_font_toast);
+            this.iconSize = resources.getDimensionPixelSize(hint
+                    ? R.dimen.adt_icon_hint : R.dimen.adt_icon_toast);
+            this.paddingVertical = resources.getDimensionPixelSize(hint
+                    ? R.dimen.adt_margin_hint_top_bottom : R.dimen.adt_margin_toast_top_bottom);
+            this.paddingHorizontal = resources.getDimensionPixelSize(hint
+                    ? R.dimen.adt_margin_hint_right_left : R.dimen.adt_margin_toast_right_left);
+            this.margin = resources.getDimensionPixelSize(hint
+                    ? R.dimen.adt_margin_hint_small : R.dimen.adt_margin_toast_small);
+            this.cornerRadius = resources.getDimension(hint
+                    ? R.dimen.adt_corner_hint : R.dimen.adt_corner_toast);
+            this.shadow = resources.getDimensionPixelSize(hint
+                    ? R.dimen.adt_shadow_hint : R.dimen.adt_shadow_toast);
+
+            // The library backgrounds have a layer with this id, an override will not have it.
+            @Nullable Drawable background = resources.getDrawable(hint
+                    ? R.drawable.adt_hint_background : R.drawable.adt_toast_background, null);
+            this.defaultBackground = background instanceof LayerDrawable
+                    && ((LayerDrawable) background)
+                    .findDrawableByLayerId(R.id.adt_background) != null;
+        }
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.content.res.Configuration;
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+import android.text.Spanned;
+import android.text.TextPaint;
+import android.text.TextUtils;
+import android.util.DisplayMetrics;
+import android.view.View;
+import android.widget.ImageView;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.pranavpandey.android.dynamic.toasts.R;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded LRU cache to keep the measured size of the toast and hint views.
+ * <p>The size is keyed by the text, the resolved style of the views and the configuration,
+ * so that the measure pass can be skipped for the repeated toasts. The toast layout and the
+ * {@link ToastView} are both supported.
+ * <p>It must be accessed on the main thread.
+ */
+public final class ToastMeasureCache {
+
+    /**
+     * Maximum number of sizes to be cached.
+     */
+    private static final int MAX_SIZE = 32;
+
+    /**
+     * Map to hold the measured sizes in the least recently used order.
+     */
+    private static final Map<Key, Long> sCache =
+            new LinkedHashMap<Key, Long>(MAX_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Long> eldest) {
+                    return size() > MAX_SIZE;
+                }
+            };
+
+    /**
+     * Key used to look up the cache without any allocation.
+     */
+    private static final Key sLookupKey = new Key();
+
+    /**
+     * Configuration used to measure the cached sizes.
+     */
+    private static @Nullable Configuration sConfiguration;
+
+    /**
+     * Making default constructor private to avoid instantiation.
+     */
+    private ToastMeasureCache() { }
+
+    /**
+     * Returns the measured size of the supplied toast view with the unspecified specs.
+     * <p>The view will be measured only if its size has not been cached.
+     *
+     * @param view The toast view to be measured.
+     *
+     * @return The measured size packed into a {@code long}.
+     *
+     * @see #getWidth(long)
+     * @see #getHeight(long)
+     */
+    public static long measure(@NonNull View view) {
+        Configuration configuration = view.getResources().getConfiguration();
+        if (sConfiguration == null || sConfiguration.diff(configuration) != 0) {
+            sCache.clear();
+            sConfiguration = new Configuration(configuration);
+        }
+
+        @Nullable CharSequence text;
+        int textId;
+        float textSize;
+        @Nullable Typeface typeface;
+        int iconWidth = 0;
+        int iconHeight = 0;
+        if (view instanceof ToastView) {
+            ToastView toastView = (ToastView) view;
+            TextPaint paint = toastView.getPaint();
+            text = toastView.getText();
+            textId = toastView.getId();
+            textSize = paint.getTextSize();
+            typeface = paint.getTypeface();
+
+            if (toastView.getIcon() != null) {
+                iconWidth = toastView.getIconSize();
+                iconHeight = toastView.getIconSize();
+            }
+        } else {
+            @Nullable TextView textView = view.findViewById(R.id.adt_hint_text);
+            @Nullable ImageView icon = view.findViewById(R.id.adt_hint_icon);
+            if (textView == null) {
+                textView = view.findViewById(R.id.adt_toast_text);
+                icon = view.findViewById(R.id.adt_toast_icon);
+            }
+
+            if (textView == null) {
+                return measureView(view);
+            }
+
+            text = textView.getText();
+            textId = textView.getId();
+            textSize = textView.getTextSize();
+            typeface = textView.getTypeface();
+
+            if (icon != null && icon.getVisibility() != View.GONE) {
+                iconWidth = icon.getLayoutParams().width;
+                iconHeight = icon.getLayoutParams().height;
+            }
+        }
+
+        // Spans may change the size without changing the characters.
+        if (text instanceof Spanned) {
+            return measureView(view);
+        }
+
+        sLookupKey.set(view, textId, textSize, typeface, iconWidth, iconHeight, text);
+        @Nullable Long size = sCache.get(sLookupKey);
+        if (size != null) {
+            return size;
+        }
+
+        long measured = measureView(view);
+        Key key = new Key();
+        key.set(view, textId, textSize, typeface, iconWidth, iconHeight,
+                text != null ? text.toString() : null);
+        sCache.put(key, measured);
+
+        return measured;
+    }
+
+    /**
+     * Measure the supplied view with the unspecified specs.
+     *
+     * @param view The view to be measured.
+     *
+     * @return The measured size packed into a {@code long}.
+     */
+    private static long measureView(@NonNull View view) {
+        DisplayMetrics metrics = view.getResources().getDisplayMetrics();
+        view.measure(View.MeasureSpec.makeMeasureSpec(
+                metrics.widthPixels, View.MeasureSpec.UNSPECIFIED),
+                View.MeasureSpec.makeMeasureSpec(
+                        metrics.heightPixels, View.MeasureSpec.UNSPECIFIED));
+
+        return ((long) view.getMeasuredWidth() << 32)
+                | (view.getMeasuredHeight() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the width from the packed size.
+     *
+     * @param size The packed size.
+     *
+     * @return The width from the packed size.
+     */
+    public static int getWidth(long size) {
+        return (int) (size >>> 32);
+    }
+
+    /**
+     * Returns the height from the packed size.
+     *
+     * @param size The packed size.
+     *
+     * @return The height from the packed size.
+     */
+    public static int getHeight(long size) {
+        return (int) size;
+    }
+
+    /**
+     * Clear all the cached sizes.
+     */
+    public static void clear() {
+        sCache.clear();
+        sConfiguration = null;
+    }
+
+    /**
+     * Returns the number of cached sizes.
+     *
+     * @return The number of cached sizes.
+     */
+    @VisibleForTesting
+    static int size() {
+        return sCache.size();
+    }
+
+    /**
+     * Key to identify a measured size.
+     */
+    private static final class Key {
+
+        /**
+         * The text to be shown.
+         */
+        @Nullable CharSequence text;
+
+        /**
+         * The id of the text view, or the id of the {@link ToastView}.
+         */
+        int textId;
+
+        /**
+         * The text size in pixels.
+         */
+        float textSize;
+
+        /**
+         * The text typeface.
+         */
+        @Nullable Typeface typeface;
+
+        /**
+         * The icon width, {@code 0} if the icon is not visible.
+         */
+        int iconWidth;
+
+        /**
+         * The icon height, {@code 0} if the icon is not visible.
+         */
+        int iconHeight;
+
+        /**
+         * The left padding of the root view.
+         */
+        int paddingLeft;
+
+        /**
+         * The top padding of the root view.
+         */
+        int paddingTop;
+
+        /**
+         * The right padding of the root view.
+         */
+        int paddingRight;
+
+        /**
+         * The bottom padding of the root view.
+         */
+        int paddingBottom;
+
+        /**
+         * The minimum width of the root view background, {@code 0} if there is no background.
+         */
+        int minWidth;
+
+        /**
+         * The minimum height of the root view background, {@code 0} if there is no background.
+         */
+        int minHeight;
+
+        /**
+         * Set the values for this key.
+         *
+         * @param view The root view.
+         * @param textId The id of the text view.
+         * @param textSize The text size in pixels.
+         * @param typeface The text typeface.
+         * @param iconWidth The icon width, {@code 0} if the icon is not visible.
+         * @param iconHeight The icon height, {@code 0} if the icon is not visible.
+         * @param text The text to be shown.
+         */
+        void set(@NonNull View view, int textId, float textSize, @Nullable Typeface typeface,
+                int iconWidth, int iconHeight, @Nullable CharSequence text) {
+            this.text = text;
+            this.textId = textId;
+            this.textSize = textSize;
+            this.typeface = typeface;
+            this.iconWidth = iconWidth;
+            this.iconHeight = iconHeight;
+
+            this.paddingLeft = view.getPaddingLeft();
+            this.paddingTop = view.getPaddingTop();
+            this.paddingRight = view.getPaddingRight();
+            this.paddingBottom = view.getPaddingBottom();
+
+            @Nullable Drawable background = view.getBackground();
+            this.minWidth = background != null ? background.getMinimumWidth() : 0;
+            this.minHeight = background != null ? background.getMinimumHeight() : 0;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object object) {
+            if (this == object) {
+                return true;
+            }
+
+            if (!(object instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) object;
+            return textId == key.textId && textSize == key.textSize
+                    && typeface == key.typeface && iconWidth == key.iconWidth
+                    && iconHeight == key.iconHeight && paddingLeft == key.paddingLeft
+                    && paddingTop == key.paddingTop && paddingRight == key.paddingRight
+                    && paddingBottom == key.paddingBottom && minWidth == key.minWidth
+                    && minHeight == key.minHeight && TextUtils.equals(text, key.text);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = 0;
+            if (text != null) {
+                for (int i = 0; i < text.length(); i++) {
+                    result = 31 * result + text.charAt(i);
+                }
+            }
+
+            result = 31 * result + textId;
+            result = 31 * result + Float.floatToIntBits(textSize);
+            result = 31 * result + System.identityHashCode(typeface);
+            result = 31 * result + iconWidth;
+            result = 31 * result + iconHeight;
+            result = 31 * result + paddingLeft;
+            result = 31 * result + paddingTop;
+            result = 31 * result + paddingRight;
+            result = 31 * result + paddingBottom;
+            result = 31 * result + minWidth;
+            return 31 * result + minHeight;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.toasts.ToastMetricsListener;
+
+/**
+ * Helper class to hold the {@link ToastMetricsListener}.
+ * <p>The callers should read the listener once and measure the stages only if it is not
+ * {@code null}, so that there is no overhead without a listener.
+ */
+public final class ToastMetrics {
+
+    /**
+     * Listener to receive the metrics.
+     */
+    private static volatile @Nullable ToastMetricsListener sListener;
+
+    /**
+     * Making default constructor private to avoid instantiation.
+     */
+    private ToastMetrics() { }
+
+    /**
+     * Get the listener to receive the metrics.
+     *
+     * @return The listener to receive the metrics.
+     */
+    public static @Nullable ToastMetricsListener getListener() {
+        return sListener;
+    }
+
+    /**
+     * Set the listener to receive the metrics.
+     *
+     * @param listener The listener to be set.
+     */
+    public static void setListener(@Nullable ToastMetricsListener listener) {
+        sListener = listener;
+    }
+
+    /**
+     * Report the queue event to the listener, if any.
+     *
+     * @param event The queue event.
+     * @param pendingCount The number of the pending requests.
+     */
+    public static void event(int event, int pendingCount) {
+        @Nullable ToastMetricsListener listener = sListener;
+        if (listener != null) {
+            listener.onToastEvent(event, pendingCount);
+        }
+    }
+}
@@ -0,0 +1,773 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+import android.util.TypedValue;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * An immutable snapshot of the toast customisations.
+ * <p>It is published as a whole when the customisations are applied, so that a toast will
+ * always be displayed by using a consistent style even if it is made on a background thread.
+ */
+public final class ToastStyle {
+
+    /**
+     * Background color for the default toast.
+     */
+    private final @Nullable @ColorInt Integer mDefaultBackgroundColor;
+
+    /**
+     * Tint color for the default toast.
+     */
+    private final @Nullable @ColorInt Integer mDefaultTintColor;
+
+    /**
+     * Background color for the error toast.
+     */
+    private final @Nullable @ColorInt Integer mErrorBackgroundColor;
+
+    /**
+     * Background color for the success toast.
+     */
+    private final @Nullable @ColorInt Integer mSuccessBackgroundColor;
+
+    /**
+     * Background color for the warning toast.
+     */
+    private final @Nullable @ColorInt Integer mWarningBackgroundColor;
+
+    /**
+     * Generated tint color for the error toast.
+     */
+    private final @Nullable @ColorInt Integer mErrorTintColor;
+
+    /**
+     * Generated tint color for the success toast.
+     */
+    private final @Nullable @ColorInt Integer mSuccessTintColor;
+
+    /**
+     * Generated tint color for the warning toast.
+     */
+    private final @Nullable @ColorInt Integer mWarningTintColor;
+
+    /**
+     * Custom icon for the error toast.
+     */
+    private final @Nullable Drawable mErrorIcon;
+
+    /**
+     * Custom icon for the success toast.
+     */
+    private final @Nullable Drawable mSuccessIcon;
+
+    /**
+     * Custom icon for the warning toast.
+     */
+    private final @Nullable Drawable mWarningIcon;
+
+    /**
+     * {@code true} to disable icon for all the toasts.
+     */
+    private final boolean mDisableIcon;
+
+    /**
+     * {@code true} to tint icon for all the toasts.
+     */
+    private final boolean mTintIcon;
+
+    /**
+     * Icon size for the toast in pixels.
+     */
+    private final int mIconSize;
+
+    /**
+     * Text size for the toast in SP.
+     *
+     * @see TypedValue#COMPLEX_UNIT_SP
+     */
+    private final int mTextSize;
+
+    /**
+     * Custom typeface used by the toast.
+     */
+    private final @Nullable Typeface mTextTypeface;
+
+    /**
+     * Custom background used by the toast.
+     */
+    private final @Nullable Drawable mToastBackground;
+
+    /**
+     * {@code true} to recycle the views for all the toasts.
+     */
+    private final boolean mRecycleViews;
+
+    /**
+     * {@code true} to build the layout programmatically for all the toasts.
+     */
+    private final boolean mBuildLayout;
+
+    /**
+     * {@code true} to draw all the toasts by using a single view.
+     */
+    private final boolean mDrawView;
+
+    /**
+     * {@code true} to show all the toasts one at a time according to their priority.
+     */
+    private final boolean mSchedule;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param builder The builder to be used.
+     */
+    private ToastStyle(@NonNull Builder builder) {
+        this.mDefaultBackgroundColor = builder.defaultBackgroundColor;
+        this.mDefaultTintColor = builder.defaultTintColor;
+        this.mErrorBackgroundColor = builder.errorBackgroundColor;
+        this.mSuccessBackgroundColor = builder.successBackgroundColor;
+        this.mWarningBackgroundColor = builder.warningBackgroundColor;
+        this.mErrorTintColor = generateTintColor(
+                builder.errorBackgroundColor, builder.defaultTintColor);
+        this.mSuccessTintColor = generateTintColor(
+                builder.successBackgroundColor, builder.defaultTintColor);
+        this.mWarningTintColor = generateTintColor(
+                builder.warningBackgroundColor, builder.defaultTintColor);
+        this.mErrorIcon = builder.errorIcon;
+        this.mSuccessIcon = builder.successIcon;
+        this.mWarningIcon = builder.warningIcon;
+        this.mDisableIcon = builder.disableIcon;
+        this.mTintIcon = builder.tintIcon;
+        this.mIconSize = builder.iconSize;
+        this.mTextSize = builder.textSize;
+        this.mTextTypeface = builder.textTypeface;
+        this.mToastBackground = builder.toastBackground;
+        this.mRecycleViews = builder.recycleViews;
+        this.mBuildLayout = builder.buildLayout;
+        this.mDrawView = builder.drawView;
+        this.mSchedule = builder.schedule;
+    }
+
+    /**
+     * Generate tint color according to the supplied color, otherwise return the default value.
+     *
+     * @param color The color to be used to generate the tint color.
+     * @param defaultColor The default value for the tint color.
+     *
+     * @return The generated tint color according to the supplied color, otherwise return the
+     *         default value.
+     */
+    private static @Nullable @ColorInt Integer generateTintColor(
+            @Nullable @ColorInt Integer color, @Nullable @ColorInt Integer defaultColor) {
+        if (color != null) {
+            return ToastColorCache.getTintColor(color);
+        }
+
+        return defaultColor;
+    }
+
+    /**
+     * Get the background color for the default toast.
+     *
+     * @return The background color for the default toast.
+     *         <p>{@code null} to use the default background color.
+     */
+    public @Nullable @ColorInt Integer getDefaultBackgroundColor() {
+        return mDefaultBackgroundColor;
+    }
+
+    /**
+     * Get the tint color for the default toast.
+     *
+     * @return The tint color for the default toast.
+     *         <p>{@code null} to use the default tint color.
+     */
+    public @Nullable @ColorInt Integer getDefaultTintColor() {
+        return mDefaultTintColor;
+    }
+
+    /**
+     * Get the background color for the error toast.
+     *
+     * @return The background color for the error toast.
+     */
+    public @Nullable @ColorInt Integer getErrorBackgroundColor() {
+        return mErrorBackgroundColor;
+    }
+
+    /**
+     * Get the background color for the success toast.
+     *
+     * @return The background color for the success toast.
+     */
+    public @Nullable @ColorInt Integer getSuccessBackgroundColor() {
+        return mSuccessBackgroundColor;
+    }
+
+    /**
+     * Get the background color for the warning toast.
+     *
+     * @return The background color for the warning toast.
+     */
+    public @Nullable @ColorInt Integer getWarningBackgroundColor() {
+        return mWarningBackgroundColor;
+    }
+
+    /**
+     * Get the generated tint color for the error toast.
+     *
+     * @return The generated tint color for the error toast.
+     */
+    public @Nullable @ColorInt Integer getErrorTintColor() {
+        return mErrorTintColor;
+    }
+
+    /**
+     * Get the generated tint color for the success toast.
+     *
+     * @return The generated tint color for the success toast.
+     */
+    public @Nullable @ColorInt Integer getSuccessTintColor() {
+        return mSuccessTintColor;
+    }
+
+    /**
+     * Get the generated tint color for the warning toast.
+     *
+     * @return The generated tint color for the warning toast.
+     */
+    public @Nullable @ColorInt Integer getWarningTintColor() {
+        return mWarningTintColor;
+    }
+
+    /**
+     * Get the custom icon for the error toast.
+     *
+     * @return The custom icon for the error toast.
+     *         <p>{@code null} to use the default icon.
+     */
+    public @Nullable Drawable getErrorIcon() {
+        return mErrorIcon;
+    }
+
+    /**
+     * Get the custom icon for the success toast.
+     *
+     * @return The custom icon for the success toast.
+     *         <p>{@code null} to use the default icon.
+     */
+    public @Nullable Drawable getSuccessIcon() {
+        return mSuccessIcon;
+    }
+
+    /**
+     * Get the custom icon for the warning toast.
+     *
+     * @return The custom icon for the warning toast.
+     *         <p>{@code null} to use the default icon.
+     */
+    public @Nullable Drawable getWarningIcon() {
+        return mWarningIcon;
+    }
+
+    /**
+     * Returns whether to disable icon for all the toasts.
+     *
+     * @return {@code true} to disable icon for all the toasts.
+     */
+    public boolean isDisableIcon() {
+        return mDisableIcon;
+    }
+
+    /**
+     * Returns whether to tint icon for all the toasts.
+     *
+     * @return {@code true} to tint icon for all the toasts.
+     */
+    public boolean isTintIcon() {
+        return mTintIcon;
+    }
+
+    /**
+     * Get the icon size for the toast in pixels.
+     *
+     * @return The icon size for the toast in pixels.
+     *         <p>{@code -1} to use the in-built icon size.
+     */
+    public int getIconSize() {
+        return mIconSize;
+    }
+
+    /**
+     * Get the text size for the toast in SP.
+     *
+     * @return The text size for the toast in SP.
+     *         <p>{@code -1} to use the system text size.
+     */
+    public int getTextSize() {
+        return mTextSize;
+    }
+
+    /**
+     * Get the custom typeface used by the toast.
+     *
+     * @return The custom typeface used by the toast.
+     *         <p>{@code null} to use the system typeface.
+     */
+    public @Nullable Typeface getTextTypeface() {
+        return mTextTypeface;
+    }
+
+    /**
+     * Get the custom background used by the toast.
+     *
+     * @return The custom background used by the toast.
+     *         <p>{@code null} to use the default background.
+     */
+    public @Nullable Drawable getToastBackground() {
+        return mToastBackground;
+    }
+
+    /**
+     * Returns whether to recycle the views for all the toasts.
+     *
+     * @return {@code true} to recycle the views for all the toasts.
+     */
+    public boolean isRecycleViews() {
+        return mRecycleViews;
+    }
+
+    /**
+     * Returns whether to build the layout programmatically for all the toasts.
+     *
+     * @return {@code true} to build the layout programmatically for all the toasts.
+     */
+    public boolean isBuildLayout() {
+        return mBuildLayout;
+    }
+
+    /**
+     * Returns whether to draw all the toasts by using a single view.
+     *
+     * @return {@code true} to draw all the toasts by using a single view.
+     */
+    public boolean isDrawView() {
+        return mDrawView;
+    }
+
+    /**
+     * Returns whether to show all the toasts one at a time according to their priority.
+     *
+     * @return {@code true} to show all the toasts one at a time according to their priority.
+     */
+    public boolean isSchedule() {
+        return mSchedule;
+    }
+
+    /**
+     * Builder class to create the {@link ToastStyle}.
+     */
+    public static class Builder {
+
+        /**
+         * Background color for the default toast.
+         */
+        private @Nullable @ColorInt Integer defaultBackgroundColor;
+
+        /**
+         * Tint color for the default toast.
+         */
+        private @Nullable @ColorInt Integer defaultTintColor;
+
+        /**
+         * Background color for the error toast.
+         */
+        private @Nullable @ColorInt Integer errorBackgroundColor;
+
+        /**
+         * Background color for the success toast.
+         */
+        private @Nullable @ColorInt Integer successBackgroundColor;
+
+        /**
+         * Background color for the warning toast.
+         */
+        private @Nullable @ColorInt Integer warningBackgroundColor;
+
+        /**
+         * Custom icon for the error toast.
+         */
+        private @Nullable Drawable errorIcon;
+
+        /**
+         * Custom icon for the success toast.
+         */
+        private @Nullable Drawable successIcon;
+
+        /**
+         * Custom icon for the warning toast.
+         */
+        private @Nullable Drawable warningIcon;
+
+        /**
+         * {@code true} to disable icon for all the toasts.
+         */
+        private boolean disableIcon;
+
+        /**
+         * {@code true} to tint icon for all the toasts.
+         */
+        private boolean tintIcon;
+
+        /**
+         * Icon size for the toast in pixels.
+         */
+        private int iconSize;
+
+        /**
+         * Text size for the toast in SP.
+         */
+        private int textSize;
+
+        /**
+         * Custom typeface used by the toast.
+         */
+        private @Nullable Typeface textTypeface;
+
+        /**
+         * Custom background used by the toast.
+         */
+        private @Nullable Drawable toastBackground;
+
+        /**
+         * {@code true} to recycle the views for all the toasts.
+         */
+        private boolean recycleViews;
+
+        /**
+         * {@code true} to build the layout programmatically for all the toasts.
+         */
+        private boolean buildLayout;
+
+        /**
+         * {@code true} to draw all the toasts by using a single view.
+         */
+        private boolean drawView;
+
+        /**
+         * {@code true} to show all the toasts one at a time according to their priority.
+         */
+        private boolean schedule;
+
+        /**
+         * Constructor to initialize an object of this class.
+         */
+        public Builder() { }
+
+        /**
+         * Constructor to initialize an object of this class with the values of an
+         * existing style.
+         *
+         * @param style The style to copy the values from.
+         */
+        public Builder(@NonNull ToastStyle style) {
+            this.defaultBackgroundColor = style.mDefaultBackgroundColor;
+            this.defaultTintColor = style.mDefaultTintColor;
+            this.errorBackgroundColor = style.mErrorBackgroundColor;
+            this.successBackgroundColor = style.mSuccessBackgroundColor;
+            this.warningBackgroundColor = style.mWarningBackgroundColor;
+            this.errorIcon = style.mErrorIcon;
+            this.successIcon = style.mSuccessIcon;
+            this.warningIcon = style.mWarningIcon;
+            this.disableIcon = style.mDisableIcon;
+            this.tintIcon = style.mTintIcon;
+            this.iconSize = style.mIconSize;
+            this.textSize = style.mTextSize;
+            this.textTypeface = style.mTextTypeface;
+            this.toastBackground = style.mToastBackground;
+            this.recycleViews = style.mRecycleViews;
+            this.buildLayout = style.mBuildLayout;
+            this.drawView = style.mDrawView;
+            this.schedule = style.mSchedule;
+        }
+
+        /**
+         * Set the background color for the default toast.
+         *
+         * @param defaultBackgroundColor The background color to be set.
+         *                               <p>Pass {@code null} to use the default background color.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setDefaultBackgroundColor(
+                @Nullable @ColorInt Integer defaultBackgroundColor) {
+            this.defaultBackgroundColor = defaultBackgroundColor;
+
+            return this;
+        }
+
+        /**
+         * Set the tint color for the default toast.
+         *
+         * @param defaultTintColor The tint color to be set.
+         *                         <p>Pass {@code null} to use the default tint color.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setDefaultTintColor(@Nullable @ColorInt Integer defaultTintColor) {
+            this.defaultTintColor = defaultTintColor;
+
+            return this;
+        }
+
+        /**
+         * Set the background color for the error toast.
+         *
+         * @param errorBackgroundColor The error background color to be set.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setErrorBackgroundColor(
+                @Nullable @ColorInt Integer errorBackgroundColor) {
+            this.errorBackgroundColor = errorBackgroundColor;
+
+            return this;
+        }
+
+        /**
+         * Set the background color for the success toast.
+         *
+         * @param successBackgroundColor The success background color to be set.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setSuccessBackgroundColor(
+                @Nullable @ColorInt Integer successBackgroundColor) {
+            this.successBackgroundColor = successBackgroundColor;
+
+            return this;
+        }
+
+        /**
+         * Set the background color for the warning toast.
+         *
+         * @param warningBackgroundColor The warning background color to be set.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setWarningBackgroundColor(
+                @Nullable @ColorInt Integer warningBackgroundColor) {
+            this.warningBackgroundColor = warningBackgroundColor;
+
+            return this;
+        }
+
+        /**
+         * Set the custom icon for the error toast.
+         *
+         * @param errorIcon The error icon to be set.
+         *                  <p>Pass {@code null} to use the default icon.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setErrorIcon(@Nullable Drawable errorIcon) {
+            this.errorIcon = errorIcon;
+
+            return this;
+        }
+
+        /**
+         * Set the custom icon for the success toast.
+         *
+         * @param successIcon The success icon to be set.
+         *                    <p>Pass {@code null} to use the default icon.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setSuccessIcon(@Nullable Drawable successIcon) {
+            this.successIcon = successIcon;
+
+            return this;
+        }
+
+        /**
+         * Set the custom icon for the warning toast.
+         *
+         * @param warningIcon The warning icon to be set.
+         *                    <p>Pass {@code null} to use the default icon.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setWarningIcon(@Nullable Drawable warningIcon) {
+            this.warningIcon = warningIcon;
+
+            return this;
+        }
+
+        /**
+         * Set whether to disable icon for all the toasts.
+         *
+         * @param disableIcon {@code true} to disable icon for all the toasts.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setDisableIcon(boolean disableIcon) {
+            this.disableIcon = disableIcon;
+
+            return this;
+        }
+
+        /**
+         * Set whether to tint icon for all the toasts.
+         *
+         * @param tintIcon {@code true} to tint icon for all the toasts.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setTintIcon(boolean tintIcon) {
+            this.tintIcon = tintIcon;
+
+            return this;
+        }
+
+        /**
+         * Set the icon size for the toast in pixels.
+         *
+         * @param iconSize The icon size to be set.
+         *                 <p>Pass {@code -1} to use the in-built icon size.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setIconSize(int iconSize) {
+            this.iconSize = iconSize;
+
+            return this;
+        }
+
+        /**
+         * Set the text size for the toast in SP.
+         *
+         * @param textSize The text size to be set.
+         *                 <p>Pass {@code -1} to use the system text size.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setTextSize(int textSize) {
+            this.textSize = textSize;
+
+            return this;
+        }
+
+        /**
+         * Set the custom typeface used by the toast.
+         *
+         * @param textTypeface The typeface to be set.
+         *                     <p>Pass {@code null} to use the system typeface.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setTextTypeface(@Nullable Typeface textTypeface) {
+            this.textTypeface = textTypeface;
+
+            return this;
+        }
+
+        /**
+         * Set the custom background used by the toast.
+         *
+         * @param toastBackground The background to be set.
+         *                        <p>Pass {@code null} to use the default background.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setToastBackground(@Nullable Drawable toastBackground) {
+            this.toastBackground = toastBackground;
+
+            return this;
+        }
+
+        /**
+         * Set whether to recycle the views for all the toasts.
+         *
+         * @param recycleViews {@code true} to recycle the views for all the toasts.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setRecycleViews(boolean recycleViews) {
+            this.recycleViews = recycleViews;
+
+            return this;
+        }
+
+        /**
+         * Set whether to build the layout programmatically for all the toasts.
+         *
+         * @param buildLayout {@code true} to build the layout programmatically for all the toasts.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setBuildLayout(boolean buildLayout) {
+            this.buildLayout = buildLayout;
+
+            return this;
+        }
+
+        /**
+         * Set whether to draw all the toasts by using a single view.
+         *
+         * @param drawView {@code true} to draw all the toasts by using a single view.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setDrawView(boolean drawView) {
+            this.drawView = drawView;
+
+            return this;
+        }
+
+        /**
+         * Set whether to show all the toasts one at a time according to their priority.
+         *
+         * @param schedule {@code true} to show all the toasts one at a time according to
+         *                 their priority.
+         *
+         * @return The {@link Builder} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Builder setSchedule(boolean schedule) {
+            this.schedule = schedule;
+
+            return this;
+        }
+
+        /**
+         * Build the {@link ToastStyle} and generate the derived values.
+         *
+         * @return The immutable {@link ToastStyle} for this builder.
+         */
+        public @NonNull ToastStyle build() {
+            return new ToastStyle(this);
+        }
+    }
+}
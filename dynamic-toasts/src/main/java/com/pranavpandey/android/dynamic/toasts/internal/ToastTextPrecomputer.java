@@ -0,0 +1,251 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Typeface;
+import android.text.TextPaint;
+import android.text.TextUtils;
+import android.util.TypedValue;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.text.PrecomputedTextCompat;
+import androidx.core.widget.TextViewCompat;
+
+import com.pranavpandey.android.dynamic.util.DynamicSdkUtils;
+
+/**
+ * Helper class to measure the toast text on a background thread by using the
+ * {@link PrecomputedTextCompat}, so that only the binding is left for the main thread.
+ * <p>The text metrics are taken from the pooled text view and adjusted for the typeface and
+ * text size of the style, so that the precomputed text matches the text view it is bound to.
+ * A precomputed text that does not match the text view will be measured again while binding.
+ */
+public final class ToastTextPrecomputer {
+
+    /**
+     * Text metrics of the inflated toast text view.
+     */
+    private static volatile @Nullable PrecomputedTextCompat.Params sToastParams;
+
+    /**
+     * Text metrics of the inflated hint text view.
+     */
+    private static volatile @Nullable PrecomputedTextCompat.Params sHintParams;
+
+    /**
+     * Text metrics of the last bound toast text view.
+     */
+    private static volatile @Nullable PrecomputedTextCompat.Params sToastBoundParams;
+
+    /**
+     * Text metrics of the last bound hint text view.
+     */
+    private static volatile @Nullable PrecomputedTextCompat.Params sHintBoundParams;
+
+    /**
+     * Making default constructor private to avoid instantiation.
+     */
+    private ToastTextPrecomputer() { }
+
+    /**
+     * Precompute the supplied text for the toast or hint text view.
+     * <p>It should be called on a background thread.
+     *
+     * @param context The context to use.
+     * @param type The type of the text view.
+     * @param build {@code true} if the layout is built programmatically instead of inflating it.
+     * @param typeface The typeface for the text, {@code null} to use the default typeface.
+     * @param textSize The text size in SP, {@code -1} to use the default text size.
+     * @param text The text to be precomputed.
+     *
+     * @return The precomputed text, or the supplied text if it is empty.
+     *
+     * @see ToastViewPool#TYPE_TOAST
+     * @see ToastViewPool#TYPE_HINT
+     */
+    public static @Nullable CharSequence precompute(@NonNull Context context, int type,
+            boolean build, @Nullable Typeface typeface, float textSize,
+            @Nullable CharSequence text) {
+        if (TextUtils.isEmpty(text) || text instanceof PrecomputedTextCompat) {
+            return text;
+        }
+
+        return PrecomputedTextCompat.create(text,
+                getParams(context, type, build, typeface, textSize));
+    }
+
+    /**
+     * Record the text metrics of the supplied inflated text view, so that the subsequent texts
+     * can be precomputed without inflating it again.
+     * <p>It should be called before binding any values to the text view.
+     *
+     * @param textView The inflated text view.
+     * @param type The type of the text view.
+     *
+     * @see ToastViewPool#TYPE_TOAST
+     * @see ToastViewPool#TYPE_HINT
+     */
+    public static void prepare(@NonNull TextView textView, int type) {
+        PrecomputedTextCompat.Params params = TextViewCompat.getTextMetricsParams(textView);
+        if (type == ToastViewPool.TYPE_HINT) {
+            sHintParams = params;
+        } else {
+            sToastParams = params;
+        }
+    }
+
+    /**
+     * Clear the recorded text metrics.
+     */
+    public static void clear() {
+        sToastParams = null;
+        sHintParams = null;
+        sToastBoundParams = null;
+        sHintBoundParams = null;
+    }
+
+    /**
+     * Returns the text metrics of the inflated text view for the supplied type.
+     * <p>A pooled text view will be used to record them if they have not been recorded yet.
+     *
+     * @param context The context to use.
+     * @param type The type of the text view.
+     * @param build {@code true} if the layout is built programmatically instead of inflating it.
+     *
+     * @return The text metrics of the inflated text view for the supplied type.
+     */
+    private static @NonNull PrecomputedTextCompat.Params getInflatedParams(
+            @NonNull Context context, int type, boolean build) {
+        @Nullable PrecomputedTextCompat.Params params =
+                type == ToastViewPool.TYPE_HINT ? sHintParams : sToastParams;
+        if (params != null) {
+            return params;
+        }
+
+        ToastViewPool.Holder holder = ToastViewPool.obtain(context, type, true, build, true);
+        params = TextViewCompat.getTextMetricsParams(holder.getText());
+        ToastViewPool.release(holder);
+
+        if (type == ToastViewPool.TYPE_HINT) {
+            sHintParams = params;
+        } else {
+            sToastParams = params;
+        }
+
+        return params;
+    }
+
+    /**
+     * Returns the text metrics for the supplied typeface and text size.
+     *
+     * @param context The context to use.
+     * @param type The type of the text view.
+     * @param build {@code true} if the layout is built programmatically instead of inflating it.
+     * @param typeface The typeface for the text, {@code null} to use the default typeface.
+     * @param textSize The text size in SP, {@code -1} to use the default text size.
+     *
+     * @return The text metrics for the supplied typeface and text size.
+     */
+    private static @NonNull PrecomputedTextCompat.Params getParams(@NonNull Context context,
+            int type, boolean build, @Nullable Typeface typeface, float textSize) {
+        PrecomputedTextCompat.Params inflated = getInflatedParams(context, type, build);
+        Resources resources = context.getResources();
+        float textSizePx = textSize != -1 ? TypedValue.applyDimension(
+                TypedValue.COMPLEX_UNIT_SP, textSize, resources.getDisplayMetrics())
+                : inflated.getTextPaint().getTextSize();
+        Typeface textTypeface = typeface != null
+                ? typeface : inflated.getTextPaint().getTypeface();
+
+        if (matches(inflated, textSizePx, textTypeface)) {
+            return inflated;
+        }
+
+        @Nullable PrecomputedTextCompat.Params params =
+                type == ToastViewPool.TYPE_HINT ? sHintBoundParams : sToastBoundParams;
+        if (params != null && matches(params, textSizePx, textTypeface)) {
+            return params;
+        }
+
+        TextPaint paint = new TextPaint(inflated.getTextPaint());
+        paint.setTextSize(textSizePx);
+        paint.setTypeface(textTypeface);
+
+        PrecomputedTextCompat.Params.Builder builder =
+                new PrecomputedTextCompat.Params.Builder(paint)
+                        .setTextDirection(inflated.getTextDirection());
+        if (DynamicSdkUtils.is23()) {
+            builder.setBreakStrategy(inflated.getBreakStrategy())
+                    .setHyphenationFrequency(inflated.getHyphenationFrequency());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Checks whether the supplied text metrics use the supplied text size and typeface.
+     *
+     * @param params The text metrics to be checked.
+     * @param textSize The text size in pixels.
+     * @param typeface The typeface for the text.
+     *
+     * @return {@code true} if the text metrics use the supplied text size and typeface.
+     */
+    private static boolean matches(@NonNull PrecomputedTextCompat.Params params,
+            float textSize, @Nullable Typeface typeface) {
+        return params.getTextPaint().getTextSize() == textSize
+                && params.getTextPaint().getTypeface() == typeface;
+    }
+
+    /**
+     * Set the text for the supplied toast or hint text view.
+     * <p>The precomputed text will be bound without measuring it again if its text metrics
+     * match with the text view.
+     *
+     * @param textView The text view to set the text.
+     * @param type The type of the text view.
+     * @param text The text to be set.
+     *
+     * @see ToastViewPool#TYPE_TOAST
+     * @see ToastViewPool#TYPE_HINT
+     */
+    public static void setText(@NonNull TextView textView,
+            int type, @Nullable CharSequence text) {
+        if (!(text instanceof PrecomputedTextCompat)) {
+            textView.setText(text);
+            return;
+        }
+
+        PrecomputedTextCompat precomputed = (PrecomputedTextCompat) text;
+        PrecomputedTextCompat.Params params = TextViewCompat.getTextMetricsParams(textView);
+        if (type == ToastViewPool.TYPE_HINT) {
+            sHintBoundParams = params;
+        } else {
+            sToastBoundParams = params;
+        }
+
+        if (params.equals(precomputed.getParams())) {
+            TextViewCompat.setPrecomputedText(textView, precomputed);
+        } else {
+            // It will be copied as a spanned text and measured again.
+            textView.setText(text);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import androidx.annotation.NonNull;
+import androidx.core.os.TraceCompat;
+
+/**
+ * Helper class to add the trace sections for the toasts.
+ * <p>The sections will be added only if the tracing has been enabled for the library and
+ * the app is being traced, so that there is no overhead otherwise.
+ */
+public final class ToastTrace {
+
+    /**
+     * Name of the async section from submitting a request to showing its toast.
+     */
+    public static final String SECTION_PENDING = "DynamicToasts.pending";
+
+    /**
+     * Name of the async section from showing a toast to hiding it.
+     */
+    public static final String SECTION_SHOWING = "DynamicToasts.showing";
+
+    /**
+     * {@code true} if the tracing has been enabled for the library.
+     */
+    private static volatile boolean sEnabled;
+
+    /**
+     * Making default constructor private to avoid instantiation.
+     */
+    private ToastTrace() { }
+
+    /**
+     * Checks whether the trace sections should be added.
+     *
+     * @return {@code true} if the tracing has been enabled for the library and the app is
+     *         being traced.
+     */
+    public static boolean isEnabled() {
+        return sEnabled && TraceCompat.isEnabled();
+    }
+
+    /**
+     * Set whether to add the trace sections for the library.
+     *
+     * @param enabled {@code true} to add the trace sections for the library.
+     */
+    public static void setEnabled(boolean enabled) {
+        sEnabled = enabled;
+    }
+
+    /**
+     * Begin a trace section on the current thread.
+     * <p>It must be ended on the same thread by calling the {@link #end()}.
+     *
+     * @param name The name of the section.
+     */
+    public static void begin(@NonNull String name) {
+        TraceCompat.beginSection(name);
+    }
+
+    /**
+     * End the last trace section on the current thread.
+     */
+    public static void end() {
+        TraceCompat.endSection();
+    }
+
+    /**
+     * Begin an async trace section that can be ended on any thread.
+     * <p>The returned value must be passed to the {@link #endAsync(String, int, boolean)},
+     * so that the section will be ended even if the tracing has been stopped in between.
+     *
+     * @param name The name of the section.
+     * @param cookie The unique cookie to identify the section.
+     *
+     * @return {@code true} if the section has been added.
+     */
+    public static boolean beginAsync(@NonNull String name, int cookie) {
+        if (!isEnabled()) {
+            return false;
+        }
+
+        TraceCompat.beginAsyncSection(name, cookie);
+        return true;
+    }
+
+    /**
+     * End an async trace section.
+     *
+     * @param name The name of the section.
+     * @param cookie The unique cookie used to begin the section.
+     * @param begun {@code true} if the section has been added by the
+     *              {@link #beginAsync(String, int)}.
+     */
+    public static void endAsync(@NonNull String name, int cookie, boolean begun) {
+        if (begun) {
+            TraceCompat.endAsyncSection(name, cookie);
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.PorterDuff;
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+import android.text.Layout;
+import android.text.StaticLayout;
+import android.text.TextPaint;
+import android.text.TextUtils;
+import android.util.TypedValue;
+import android.view.View;
+import android.view.accessibility.AccessibilityEvent;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.toasts.R;
+import com.pranavpandey.android.dynamic.util.DynamicSdkUtils;
+
+/**
+ * A single view to draw the toast or hint without any child view.
+ * <p>It draws the icon and a cached {@link StaticLayout} for the text inside the same padding
+ * as {@code adt_layout_toast} and {@code adt_layout_hint}, so that only one view has to be
+ * measured, laid out and drawn for a toast.
+ */
+public final class ToastView extends View {
+
+    /**
+     * Paint used to draw the text.
+     */
+    private final @NonNull TextPaint mTextPaint;
+
+    /**
+     * Top and bottom padding of the content in pixels.
+     */
+    private final int mContentPaddingVertical;
+
+    /**
+     * Right and left padding of the content in pixels.
+     */
+    private final int mContentPaddingHorizontal;
+
+    /**
+     * Margin between the icon and text in pixels.
+     */
+    private final int mIconMargin;
+
+    /**
+     * Icon size in pixels.
+     */
+    private int mIconSize;
+
+    /**
+     * Icon to be drawn before the text.
+     */
+    private @Nullable Drawable mIcon;
+
+    /**
+     * Text to be drawn.
+     */
+    private @Nullable CharSequence mText;
+
+    /**
+     * Layout of the text, {@code null} if it has to be created again.
+     */
+    private @Nullable Layout mLayout;
+
+    /**
+     * Maximum width used to create the text layout.
+     */
+    private int mLayoutMaxWidth;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param context The context to be used.
+     * @param type The type of the toast.
+     *
+     * @see ToastViewPool#TYPE_TOAST
+     * @see ToastViewPool#TYPE_HINT
+     */
+    public ToastView(@NonNull Context context, int type) {
+        super(context);
+
+        ToastLayoutBuilder.Dimensions dimensions =
+                ToastLayoutBuilder.getDimensions(context, type);
+        this.mContentPaddingVertical = dimensions.paddingVertical;
+        this.mContentPaddingHorizontal = dimensions.paddingHorizontal;
+        this.mIconMargin = dimensions.margin;
+        this.mIconSize = dimensions.iconSize;
+
+        mTextPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+        mTextPaint.density = getResources().getDisplayMetrics().density;
+        mTextPaint.setTextSize(dimensions.textSize);
+
+        // Same as the default text appearance of the text view.
+        TypedArray array = context.obtainStyledAttributes(
+                new int[] { android.R.attr.textColorSecondary });
+        mTextPaint.setColor(array.getColor(0, Color.BLACK));
+        array.recycle();
+
+        setId(type == ToastViewPool.TYPE_HINT ? R.id.adt_hint : R.id.adt_toast);
+    }
+
+    /**
+     * Set the icon size for this view.
+     * <p>It should be set before the icon so that the icon can be scaled for this size.
+     *
+     * @param size The icon size in pixels.
+     */
+    public void setIconSize(int size) {
+        if (mIconSize != size) {
+            mIconSize = size;
+            mLayout = null;
+            requestLayout();
+        }
+    }
+
+    /**
+     * Set the icon for this view.
+     * <p>The supplied icon will be copied before tinting it, so that the caller's drawable
+     * keeps its colors and callback. The icons without a constant state cannot be copied, so
+     * they will be mutated and drawn without taking over their callback.
+     *
+     * @param icon The icon to be set.
+     *             <p>Pass {@code null} to hide the icon.
+     * @param tintColor The color to tint the icon.
+     *                  <p>Pass {@code null} to keep the icon colors.
+     */
+    public void setIcon(@Nullable Drawable icon, @Nullable @ColorInt Integer tintColor) {
+        @Nullable Drawable drawable = icon != null ? ToastIconCache.get(
+                getContext(), icon, tintColor, mIconSize, mIconSize) : null;
+        boolean copy = true;
+        if (drawable == null && icon != null) {
+            @Nullable Drawable.ConstantState state = icon.getConstantState();
+            if (state != null) {
+                drawable = state.newDrawable(getResources()).mutate();
+            } else {
+                drawable = tintColor != null ? icon.mutate() : icon;
+                copy = false;
+            }
+
+            if (tintColor != null) {
+                drawable.setColorFilter(tintColor, PorterDuff.Mode.SRC_ATOP);
+            }
+        }
+
+        if (mIcon != null && mIcon.getCallback() == this) {
+            mIcon.setCallback(null);
+        }
+
+        if ((mIcon == null) != (drawable == null)) {
+            mLayout = null;
+            requestLayout();
+        }
+
+        mIcon = drawable;
+        if (mIcon != null && copy) {
+            mIcon.setCallback(this);
+        }
+        invalidate();
+    }
+
+    /**
+     * Get the icon drawn by this view.
+     *
+     * @return The icon drawn by this view.
+     */
+    public @Nullable Drawable getIcon() {
+        return mIcon;
+    }
+
+    /**
+     * Get the icon size for this view.
+     *
+     * @return The icon size in pixels.
+     */
+    public int getIconSize() {
+        return mIconSize;
+    }
+
+    /**
+     * Get the paint used to draw the text.
+     * <p>It must not be modified, use the setters of this view instead.
+     *
+     * @return The paint used to draw the text.
+     */
+    public @NonNull TextPaint getPaint() {
+        return mTextPaint;
+    }
+
+    /**
+     * Get the text drawn by this view.
+     *
+     * @return The text drawn by this view.
+     */
+    public @Nullable CharSequence getText() {
+        return mText;
+    }
+
+    /**
+     * Set the text for this view.
+     *
+     * @param text The text to be set. Can be formatted text.
+     */
+    public void setText(@Nullable CharSequence text) {
+        if (text == mText) {
+            return;
+        }
+
+        mText = text;
+        mLayout = null;
+        requestLayout();
+        invalidate();
+    }
+
+    /**
+     * Set the text color for this view.
+     *
+     * @param color The color to be set.
+     */
+    public void setTextColor(@ColorInt int color) {
+        if (mTextPaint.getColor() != color) {
+            mTextPaint.setColor(color);
+            invalidate();
+        }
+    }
+
+    /**
+     * Set the text size for this view.
+     *
+     * @param unit The unit of the text size.
+     * @param size The text size to be set.
+     *
+     * @see TypedValue
+     */
+    public void setTextSize(int unit, float size) {
+        float textSize = TypedValue.applyDimension(
+                unit, size, getResources().getDisplayMetrics());
+        if (mTextPaint.getTextSize() != textSize) {
+            mTextPaint.setTextSize(textSize);
+            mLayout = null;
+            requestLayout();
+        }
+    }
+
+    /**
+     * Set the text typeface for this view.
+     *
+     * @param typeface The typeface to be set.
+     */
+    public void setTypeface(@Nullable Typeface typeface) {
+        if (mTextPaint.getTypeface() != typeface) {
+            mTextPaint.setTypeface(typeface);
+            mLayout = null;
+            requestLayout();
+        }
+    }
+
+    /**
+     * Returns the width of the icon including its margin.
+     *
+     * @return The width of the icon including its margin.
+     */
+    private int getIconWidth() {
+        return mIcon != null ? mIconSize + mIconMargin : 0;
+    }
+
+    /**
+     * Create the text layout if the text or its maximum width has been changed.
+     *
+     * @param maxWidth The maximum width for the text.
+     *
+     * @return The layout for the text.
+     */
+    private @NonNull Layout getLayout(int maxWidth) {
+        // A layout narrower than its maximum width has not been wrapped, so it can be reused
+        // for any maximum width that can fit it.
+        if (mLayout != null && (mLayoutMaxWidth == maxWidth
+                || (mLayout.getWidth() < mLayoutMaxWidth && mLayout.getWidth() <= maxWidth))) {
+            return mLayout;
+        }
+
+        CharSequence text = mText != null ? mText : "";
+        int width = Math.min(maxWidth,
+                (int) Math.ceil(Layout.getDesiredWidth(text, mTextPaint)));
+        mLayout = createLayout(text, width);
+        mLayoutMaxWidth = maxWidth;
+
+        return mLayout;
+    }
+
+    /**
+     * Create a static layout for the supplied text.
+     *
+     * @param text The text for the layout.
+     * @param width The width of the layout.
+     *
+     * @return The static layout for the supplied text.
+     */
+    @SuppressWarnings("deprecation")
+    private @NonNull StaticLayout createLayout(@NonNull CharSequence text, int width) {
+        if (DynamicSdkUtils.is23()) {
+            return StaticLayout.Builder.obtain(text, 0, text.length(), mTextPaint, width)
+                    .setAlignment(Layout.Alignment.ALIGN_NORMAL)
+                    .setIncludePad(true)
+                    .build();
+        }
+
+        return new StaticLayout(text, mTextPaint, width,
+                Layout.Alignment.ALIGN_NORMAL, 1f, 0f, true);
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int horizontal = getPaddingLeft() + getPaddingRight()
+                + mContentPaddingHorizontal * 2 + getIconWidth();
+        int vertical = getPaddingTop() + getPaddingBottom() + mContentPaddingVertical * 2;
+
+        int maxWidth = MeasureSpec.getMode(widthMeasureSpec) == MeasureSpec.UNSPECIFIED
+                ? Integer.MAX_VALUE / 2
+                : Math.max(0, MeasureSpec.getSize(widthMeasureSpec) - horizontal);
+        Layout layout = getLayout(maxWidth);
+        int contentHeight = Math.max(layout.getHeight(), mIcon != null ? mIconSize : 0);
+
+        setMeasuredDimension(resolveSize(horizontal + layout.getWidth(), widthMeasureSpec),
+                resolveSize(vertical + contentHeight, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onDraw(@NonNull Canvas canvas) {
+        super.onDraw(canvas);
+
+        int left = getPaddingLeft() + mContentPaddingHorizontal;
+        int right = getWidth() - getPaddingRight() - mContentPaddingHorizontal;
+        int top = getPaddingTop() + mContentPaddingVertical;
+        int bottom = getHeight() - getPaddingBottom() - mContentPaddingVertical;
+        boolean rtl = getLayoutDirection() == LAYOUT_DIRECTION_RTL;
+
+        Layout layout = getLayout(mLayout != null ? mLayoutMaxWidth
+                : Math.max(0, right - left - getIconWidth()));
+        int contentWidth = getIconWidth() + layout.getWidth();
+        // Center the content like the gravity of the toast layout.
+        int start = rtl ? right - (right - left - contentWidth) / 2
+                : left + (right - left - contentWidth) / 2;
+
+        if (mIcon != null) {
+            int iconLeft = rtl ? start - mIconSize : start;
+            int iconTop = top + (bottom - top - mIconSize) / 2;
+            mIcon.setBounds(iconLeft, iconTop, iconLeft + mIconSize, iconTop + mIconSize);
+            mIcon.draw(canvas);
+        }
+
+        int textLeft = rtl ? start - contentWidth : start + getIconWidth();
+        int saveCount = canvas.save();
+        canvas.translate(textLeft, top + (bottom - top - layout.getHeight()) / 2f);
+        layout.draw(canvas);
+        canvas.restoreToCount(saveCount);
+    }
+
+    @Override
+    protected boolean verifyDrawable(@NonNull Drawable who) {
+        return who == mIcon || super.verifyDrawable(who);
+    }
+
+    @Override
+    public void onPopulateAccessibilityEvent(@NonNull AccessibilityEvent event) {
+        super.onPopulateAccessibilityEvent(event);
+
+        if (!TextUtils.isEmpty(mText)) {
+            event.getText().add(mText);
+        }
+    }
+}
@@ -0,0 +1,519 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.graphics.Typeface;
+import android.util.SparseArray;
+import android.util.TypedValue;
+import android.view.ContextThemeWrapper;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.ImageView;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.toasts.R;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded pool to recycle the toast and hint views.
+ * <p>Views are kept for each context theme and will be returned to the pool once they are
+ * detached from the window, so that the subsequent toasts can be displayed without inflation.
+ */
+public final class ToastViewPool {
+
+    /**
+     * Constant for the toast layout.
+     */
+    public static final int TYPE_TOAST = 0;
+
+    /**
+     * Constant for the hint layout.
+     */
+    public static final int TYPE_HINT = 1;
+
+    /**
+     * Key flag for the programmatically built layouts.
+     */
+    private static final int KEY_BUILD = 1 << 1;
+
+    /**
+     * Key flag for the layouts without an icon view.
+     */
+    private static final int KEY_NO_ICON = 1 << 2;
+
+    /**
+     * Maximum number of themes to keep the views for.
+     */
+    private static final int MAX_THEMES = 4;
+
+    /**
+     * Maximum number of views to keep for each theme and type.
+     */
+    private static final int MAX_VIEWS = 3;
+
+    /**
+     * Map to hold the pooled views for each theme in the least recently used order.
+     */
+    private static final Map<Resources.Theme, Pool> sPools =
+            new LinkedHashMap<Resources.Theme, Pool>(MAX_THEMES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Resources.Theme, Pool> eldest) {
+                    return size() > MAX_THEMES;
+                }
+            };
+
+    /**
+     * Number of layouts that have been inflated or built instead of reusing a pooled view.
+     */
+    private static final AtomicLong sCreated = new AtomicLong();
+
+    /**
+     * Making default constructor private to avoid instantiation.
+     */
+    private ToastViewPool() { }
+
+    /**
+     * Obtain a view holder for the supplied type.
+     * <p>It will try to reuse a pooled view for the context theme, otherwise create a new one.
+     *
+     * @param context The context to be used.
+     * @param type The type of the layout.
+     * @param recycle {@code true} to return the view to the pool once it has been hidden.
+     * @param build {@code true} to build the layout programmatically instead of inflating it.
+     * @param icon {@code false} to omit the icon view for the programmatically built layout.
+     *
+     * @return The view holder for the supplied type.
+     *
+     * @see #TYPE_TOAST
+     * @see #TYPE_HINT
+     */
+    public static @NonNull Holder obtain(@NonNull Context context,
+            int type, boolean recycle, boolean build, boolean icon) {
+        int key = type;
+        if (build) {
+            key |= KEY_BUILD;
+
+            if (!icon) {
+                key |= KEY_NO_ICON;
+            }
+        }
+
+        if (!recycle) {
+            return new Holder(create(context, null, key), null, type, key);
+        }
+
+        Pool pool;
+        @Nullable Holder holder = null;
+
+        synchronized (sPools) {
+            pool = getPool(context);
+
+            ArrayDeque<Holder> holders = pool.holders.get(key);
+            if (holders != null) {
+                holder = holders.poll();
+            }
+        }
+
+        if (holder != null) {
+            holder.reset();
+            return holder;
+        }
+
+        return new Holder(create(pool.context, pool, key), pool, type, key);
+    }
+
+    /**
+     * Get the dimensions resolved for the context theme and the supplied type.
+     * <p>They are kept with the pooled views, so that the contexts with a different theme or
+     * configuration do not share or resolve again the dimensions of each other.
+     *
+     * @param context The context to be used.
+     * @param type The type of the layout.
+     *
+     * @return The dimensions resolved for the context theme and the supplied type.
+     *
+     * @see #TYPE_TOAST
+     * @see #TYPE_HINT
+     */
+    static @NonNull ToastLayoutBuilder.Dimensions getDimensions(
+            @NonNull Context context, int type) {
+        synchronized (sPools) {
+            return getPool(context).getDimensions(type);
+        }
+    }
+
+    /**
+     * Get the pool for the context theme, or create a new one if the pool does not exist or
+     * its configuration has been changed.
+     * <p>It should be called while holding the lock of the pools.
+     *
+     * @param context The context to be used.
+     *
+     * @return The pool for the context theme.
+     */
+    private static @NonNull Pool getPool(@NonNull Context context) {
+        Resources.Theme theme = context.getTheme();
+        @Nullable Pool pool = sPools.get(theme);
+        if (pool != null && pool.configuration.diff(
+                context.getResources().getConfiguration()) != 0) {
+            pool = null;
+        }
+
+        if (pool == null) {
+            pool = new Pool(context, theme);
+            sPools.put(theme, pool);
+        }
+
+        return pool;
+    }
+
+    /**
+     * Return the view holder to the pool so that it can be reused later.
+     * <p>The holders are released once their view is detached from the window, so it should
+     * be called only for the views that will not be shown.
+     *
+     * @param holder The view holder to be released.
+     */
+    public static void release(@NonNull Holder holder) {
+        @Nullable Pool pool = holder.mPool;
+        if (pool == null) {
+            return;
+        }
+
+        synchronized (sPools) {
+            if (sPools.get(pool.theme) != pool) {
+                return;
+            }
+
+            ArrayDeque<Holder> holders = pool.holders.get(holder.mKey);
+            if (holders == null) {
+                holders = new ArrayDeque<>(MAX_VIEWS);
+                pool.holders.put(holder.mKey, holders);
+            }
+
+            if (holders.size() < MAX_VIEWS && !holders.contains(holder)) {
+                holders.offer(holder);
+            }
+        }
+    }
+
+    /**
+     * Fill the pool for the context theme so that the subsequent toasts can be displayed
+     * without creating the views.
+     * <p>It will also record the text metrics to precompute the texts for the pooled views.
+     * <p>It can be called from a background thread.
+     *
+     * @param context The context to be used.
+     * @param type The type of the layout.
+     * @param build {@code true} to build the layout programmatically instead of inflating it.
+     *
+     * @see #TYPE_TOAST
+     * @see #TYPE_HINT
+     */
+    public static void prewarm(@NonNull Context context, int type, boolean build) {
+        Holder holder = obtain(context, type, true, build, true);
+        ToastTextPrecomputer.prepare(holder.getText(), type);
+        release(holder);
+
+        if (build) {
+            release(obtain(context, type, true, true, false));
+        }
+    }
+
+    /**
+     * Returns the number of layouts that have been inflated or built instead of reusing
+     * a pooled view.
+     * <p>It can be called from any thread.
+     *
+     * @return The number of layouts that have been inflated or built.
+     */
+    public static long getCreatedCount() {
+        return sCreated.get();
+    }
+
+    /**
+     * Clear all the pooled views.
+     */
+    public static void clear() {
+        synchronized (sPools) {
+            sPools.clear();
+        }
+    }
+
+    /**
+     * Create the layout for the supplied key.
+     *
+     * @param context The context to be used.
+     * @param pool The pool to resolve the dimensions, {@code null} to use the context theme.
+     * @param key The key of the layout.
+     *
+     * @return The layout for the supplied key.
+     */
+    @SuppressLint("InflateParams")
+    private static @NonNull View create(@NonNull Context context,
+            @Nullable Pool pool, int key) {
+        sCreated.incrementAndGet();
+
+        int type = key & TYPE_HINT;
+        if ((key & KEY_BUILD) != 0) {
+            return ToastLayoutBuilder.build(context, pool != null
+                    ? pool.getDimensions(type) : getDimensions(context, type),
+                    type, (key & KEY_NO_ICON) == 0);
+        }
+
+        return LayoutInflater.from(context).inflate(type == TYPE_HINT
+                ? R.layout.adt_layout_hint : R.layout.adt_layout_toast, null, false);
+    }
+
+    /**
+     * Views pooled for a theme.
+     */
+    private static final class Pool {
+
+        /**
+         * Context used to inflate the pooled views.
+         * <p>It is based on the application context so that the pooled views will not leak
+         * the activity, with the theme and resources configuration of the supplied context.
+         */
+        final @NonNull Context context;
+
+        /**
+         * Theme used to pool the views.
+         */
+        final @NonNull Resources.Theme theme;
+
+        /**
+         * Configuration used to inflate the pooled views.
+         */
+        final @NonNull Configuration configuration;
+
+        /**
+         * Pooled view holders for each type.
+         */
+        final @NonNull SparseArray<ArrayDeque<Holder>> holders = new SparseArray<>();
+
+        /**
+         * Dimensions resolved for each type.
+         */
+        final @NonNull ToastLayoutBuilder.Dimensions[] dimensions =
+                new ToastLayoutBuilder.Dimensions[2];
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param context The context to be used.
+         * @param theme The theme used to pool the views.
+         */
+        Pool(@NonNull Context context, @NonNull Resources.Theme theme) {
+            this.theme = theme;
+
+            Context applicationContext = context.getApplicationContext();
+            if (applicationContext == null || applicationContext == context) {
+                this.context = context;
+            } else {
+                ContextThemeWrapper wrapper = new ContextThemeWrapper(applicationContext, 0);
+                // Keep the night mode, locale and font scale overrides of the context.
+                wrapper.applyOverrideConfiguration(context.getResources().getConfiguration());
+                wrapper.getTheme().setTo(context.getTheme());
+                this.context = wrapper;
+            }
+
+            this.configuration = new Configuration(context.getResources().getConfiguration());
+        }
+
+        /**
+         * Get the dimensions resolved for the supplied type.
+         * <p>They will be resolved only once for this pool.
+         *
+         * @param type The type of the layout.
+         *
+         * @return The dimensions resolved for the supplied type.
+         */
+        synchronized @NonNull ToastLayoutBuilder.Dimensions getDimensions(int type) {
+            if (dimensions[type] == null) {
+                dimensions[type] = new ToastLayoutBuilder.Dimensions(
+                        context.getResources(), type == TYPE_HINT);
+            }
+
+            return dimensions[type];
+        }
+    }
+
+    /**
+     * Holder to keep the references of the toast or hint views.
+     */
+    public static final class Holder implements View.OnAttachStateChangeListener {
+
+        /**
+         * Root view for this holder.
+         */
+        private final @NonNull View mView;
+
+        /**
+         * Icon view for this holder.
+         * <p>{@code null} if the layout has been built without an icon.
+         */
+        private final @Nullable ImageView mIcon;
+
+        /**
+         * Text view for this holder.
+         */
+        private final @NonNull TextView mText;
+
+        /**
+         * Pool used by this holder.
+         * <p>{@code null} if this holder will not be recycled.
+         */
+        private final @Nullable Pool mPool;
+
+        /**
+         * Pool key for this holder.
+         */
+        private final int mKey;
+
+        /**
+         * Inflated width of the icon view.
+         */
+        private final int mIconWidth;
+
+        /**
+         * Inflated height of the icon view.
+         */
+        private final int mIconHeight;
+
+        /**
+         * Inflated text size of the text view in pixels.
+         */
+        private final float mTextSize;
+
+        /**
+         * Inflated text colors of the text view.
+         */
+        private final @NonNull ColorStateList mTextColors;
+
+        /**
+         * Inflated typeface of the text view.
+         */
+        private final @Nullable Typeface mTypeface;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param view The root view for this holder.
+         * @param pool The pool used by this holder.
+         * @param type The layout type for this holder.
+         * @param key The pool key for this holder.
+         */
+        Holder(@NonNull View view, @Nullable Pool pool, int type, int key) {
+            this.mView = view;
+            this.mPool = pool;
+            this.mKey = key;
+            this.mIcon = view.findViewById(type == TYPE_HINT
+                    ? R.id.adt_hint_icon : R.id.adt_toast_icon);
+            this.mText = view.findViewById(type == TYPE_HINT
+                    ? R.id.adt_hint_text : R.id.adt_toast_text);
+
+            if (mIcon != null) {
+                ViewGroup.LayoutParams params = mIcon.getLayoutParams();
+                this.mIconWidth = params.width;
+                this.mIconHeight = params.height;
+            } else {
+                this.mIconWidth = 0;
+                this.mIconHeight = 0;
+            }
+            this.mTextSize = mText.getTextSize();
+            this.mTextColors = mText.getTextColors();
+            this.mTypeface = mText.getTypeface();
+
+            if (pool != null) {
+                view.addOnAttachStateChangeListener(this);
+            }
+        }
+
+        /**
+         * Reset the views to their inflated state so that they can be bound again.
+         */
+        void reset() {
+            if (mIcon != null) {
+                ViewGroup.LayoutParams params = mIcon.getLayoutParams();
+                if (params.width != mIconWidth || params.height != mIconHeight) {
+                    params.width = mIconWidth;
+                    params.height = mIconHeight;
+                    mIcon.requestLayout();
+                }
+
+                mIcon.setVisibility(View.VISIBLE);
+                mIcon.clearColorFilter();
+                mIcon.setImageDrawable(null);
+            }
+
+            mText.setTypeface(mTypeface);
+            mText.setTextSize(TypedValue.COMPLEX_UNIT_PX, mTextSize);
+            mText.setTextColor(mTextColors);
+            mText.setText(null);
+        }
+
+        /**
+         * Get the root view for this holder.
+         *
+         * @return The root view for this holder.
+         */
+        public @NonNull View getView() {
+            return mView;
+        }
+
+        /**
+         * Get the icon view for this holder.
+         *
+         * @return The icon view for this holder.
+         *         <p>{@code null} if the layout has been built without an icon.
+         */
+        public @Nullable ImageView getIcon() {
+            return mIcon;
+        }
+
+        /**
+         * Get the text view for this holder.
+         *
+         * @return The text view for this holder.
+         */
+        public @NonNull TextView getText() {
+            return mText;
+        }
+
+        @Override
+        public void onViewAttachedToWindow(View view) { }
+
+        @Override
+        public void onViewDetachedFromWindow(View view) {
+            release(this);
+        }
+    }
+}
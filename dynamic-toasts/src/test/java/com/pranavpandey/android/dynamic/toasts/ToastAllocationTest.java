@@ -0,0 +1,332 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts;
+
+import android.app.Activity;
+import android.os.Looper;
+import android.view.View;
+import android.widget.Toast;
+
+import com.pranavpandey.android.dynamic.toasts.internal.ToastViewPool;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.Shadows;
+import org.robolectric.shadows.ShadowToast;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Allocation budgets for the warm toast make, measure and show paths in each configuration.
+ * <p>The byte budgets include the allocations of the Robolectric framework, so they catch the
+ * regressions rather than measure the allocations on a device. Lower them along with the
+ * changes that reduce the allocations.
+ * <p>The object budgets count the layouts, icons and backgrounds created by the library
+ * instead of reusing them, which do not depend on the framework.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ToastAllocationTest {
+
+    /**
+     * Maximum number of bytes to be allocated by the {@link DynamicToast#make} call.
+     */
+    private static final long BUDGET_TOAST_MAKE = 64 * 1024;
+
+    /**
+     * Maximum number of bytes to be allocated by the {@link DynamicToast#makeError} call.
+     */
+    private static final long BUDGET_TOAST_MAKE_ERROR = 64 * 1024;
+
+    /**
+     * Maximum number of bytes to be allocated by the {@link DynamicToast#make} call
+     * with the built layout.
+     */
+    private static final long BUDGET_TOAST_MAKE_BUILD = 48 * 1024;
+
+    /**
+     * Maximum number of bytes to be allocated by the {@link DynamicToast#make} call
+     * with the drawn view.
+     */
+    private static final long BUDGET_TOAST_MAKE_DRAW = 24 * 1024;
+
+    /**
+     * Maximum number of bytes to be allocated by the {@link DynamicHint#make} call.
+     */
+    private static final long BUDGET_HINT_MAKE = 64 * 1024;
+
+    /**
+     * Maximum number of bytes to be allocated by the {@link DynamicHint#measure} call.
+     */
+    private static final long BUDGET_HINT_MEASURE = 64 * 1024;
+
+    /**
+     * Maximum number of bytes to be allocated by the {@link DynamicHint#measure} call
+     * with the recycled views.
+     */
+    private static final long BUDGET_HINT_MEASURE_RECYCLE = 8 * 1024;
+
+    /**
+     * Maximum number of bytes to be allocated by the {@link DynamicHint#show} call.
+     */
+    private static final long BUDGET_HINT_SHOW = 4 * 1024;
+
+    /**
+     * Number of calls to warm up the caches before measuring.
+     */
+    private static final int WARMUP_CALLS = 200;
+
+    /**
+     * Number of calls to be measured.
+     */
+    private static final int MEASURE_CALLS = 200;
+
+    /**
+     * Number of calls to run between the measurements to check the steady state.
+     */
+    private static final int STEADY_CALLS = 2000;
+
+    /**
+     * Number of bytes that the steady state allocations may vary by for each call.
+     */
+    private static final long STEADY_TOLERANCE = 256;
+
+    /**
+     * Text used for the toasts.
+     */
+    private static final String TEXT = "Dynamic Toasts";
+
+    /**
+     * Activity used to make the toasts.
+     */
+    private Activity mActivity;
+
+    /**
+     * Anchor view used to show the hints.
+     */
+    private View mAnchor;
+
+    @Before
+    public void setUp() {
+        Assume.assumeTrue("Thread allocation counter is not supported.", isSupported());
+
+        mActivity = Robolectric.buildActivity(Activity.class).setup().get();
+        mAnchor = new View(mActivity);
+        mActivity.setContentView(mAnchor);
+        Shadows.shadowOf(Looper.getMainLooper()).idle();
+    }
+
+    @After
+    public void tearDown() {
+        DynamicToast.Config.getInstance().reset();
+        DynamicHint.Config.getInstance().reset();
+        ShadowToast.reset();
+    }
+
+    /**
+     * Checks whether the allocated bytes can be measured for the current thread.
+     *
+     * @return {@code true} if the allocated bytes can be measured for the current thread.
+     */
+    private static boolean isSupported() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return false;
+        }
+
+        com.sun.management.ThreadMXBean bean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadAllocatedMemorySupported()) {
+            return false;
+        }
+
+        bean.setThreadAllocatedMemoryEnabled(true);
+        return true;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread.
+     *
+     * @return The number of bytes allocated by the current thread.
+     */
+    private static long getAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Returns the number of objects created by the library instead of reusing them.
+     *
+     * @return The number of layouts, icons and backgrounds created by the library.
+     */
+    private static long getCreatedObjects() {
+        return ToastViewPool.getCreatedCount() + DynamicToast.getIconCacheMissCount()
+                + DynamicToast.getBackgroundCacheMissCount();
+    }
+
+    /**
+     * Returns the average number of bytes allocated by the supplied call.
+     *
+     * @param call The call to be measured.
+     *
+     * @return The average number of bytes allocated by the supplied call.
+     */
+    private static long measure(Runnable call) {
+        ShadowToast.reset();
+        long start = getAllocatedBytes();
+        for (int i = 0; i < MEASURE_CALLS; i++) {
+            call.run();
+        }
+
+        return (getAllocatedBytes() - start) / MEASURE_CALLS;
+    }
+
+    /**
+     * Verify that the supplied call stays within the budgets in the steady state.
+     *
+     * @param name The name of the call.
+     * @param budget The maximum number of bytes to be allocated by the call.
+     * @param objects The maximum number of objects to be created by the call.
+     * @param call The call to be verified.
+     *
+     * @see #getCreatedObjects()
+     */
+    private static void verify(String name, long budget, int objects, Runnable call) {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            call.run();
+        }
+
+        long created = getCreatedObjects();
+        long warm = measure(call);
+        created = getCreatedObjects() - created;
+        Assert.assertTrue(name + " allocated " + warm + " bytes, budget is " + budget,
+                warm <= budget);
+        Assert.assertTrue(name + " created " + created + " objects in " + MEASURE_CALLS
+                + " calls, budget is " + objects + " for each call",
+                created <= (long) objects * MEASURE_CALLS);
+
+        for (int i = 0; i < STEADY_CALLS; i++) {
+            call.run();
+
+            if (i % MEASURE_CALLS == 0) {
+                ShadowToast.reset();
+            }
+        }
+
+        long steady = measure(call);
+        Assert.assertTrue(name + " allocated " + steady + " bytes after "
+                + STEADY_CALLS + " calls, it was " + warm + " bytes",
+                steady <= warm + STEADY_TOLERANCE);
+    }
+
+    @Test
+    public void toastMake() {
+        verify("DynamicToast.make", BUDGET_TOAST_MAKE, 1, new Runnable() {
+            @Override
+            public void run() {
+                DynamicToast.make(mActivity, TEXT);
+            }
+        });
+    }
+
+    @Test
+    public void toastMakeError() {
+        verify("DynamicToast.makeError", BUDGET_TOAST_MAKE_ERROR, 1, new Runnable() {
+            @Override
+            public void run() {
+                DynamicToast.makeError(mActivity, TEXT);
+            }
+        });
+    }
+
+    @Test
+    public void toastMakeBuildLayout() {
+        DynamicToast.Config.getInstance().setBuildLayout(true).apply();
+
+        verify("DynamicToast.make (build layout)", BUDGET_TOAST_MAKE_BUILD, 1, new Runnable() {
+            @Override
+            public void run() {
+                DynamicToast.make(mActivity, TEXT);
+            }
+        });
+    }
+
+    @Test
+    public void toastMakeDrawView() {
+        DynamicToast.Config.getInstance().setDrawView(true).apply();
+
+        verify("DynamicToast.make (draw view)", BUDGET_TOAST_MAKE_DRAW, 0, new Runnable() {
+            @Override
+            public void run() {
+                DynamicToast.make(mActivity, TEXT);
+            }
+        });
+    }
+
+    @Test
+    public void hintMake() {
+        verify("DynamicHint.make", BUDGET_HINT_MAKE, 1, new Runnable() {
+            @Override
+            public void run() {
+                DynamicHint.make(mActivity, TEXT);
+            }
+        });
+    }
+
+    @Test
+    public void hintMeasure() {
+        verify("DynamicHint.measure", BUDGET_HINT_MEASURE, 1, new Runnable() {
+            @Override
+            public void run() {
+                DynamicHint.measure(mActivity, TEXT);
+            }
+        });
+    }
+
+    /**
+     * The made toasts are never hidden here, so their views cannot be returned to the pool.
+     * The measure call releases its view, so it is used to verify the recycled views.
+     */
+    @Test
+    public void hintMeasureRecycleViews() {
+        DynamicHint.Config.getInstance().setRecycleViews(true).apply();
+
+        verify("DynamicHint.measure (recycle views)", BUDGET_HINT_MEASURE_RECYCLE, 0,
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        DynamicHint.measure(mActivity, TEXT);
+                    }
+                });
+    }
+
+    @Test
+    public void hintShow() {
+        final Toast toast = DynamicHint.make(mActivity, TEXT);
+
+        verify("DynamicHint.show", BUDGET_HINT_SHOW, 0, new Runnable() {
+            @Override
+            public void run() {
+                DynamicHint.show(mAnchor, toast);
+            }
+        });
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts;
+
+import android.content.Context;
+import android.os.Looper;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.Shadows;
+
+import java.time.Duration;
+
+/**
+ * Tests for the {@link ToastDispatcher}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ToastDispatcherTest {
+
+    /**
+     * Context used to show the toasts.
+     */
+    private Context mContext;
+
+    @Before
+    public void setUp() {
+        mContext = RuntimeEnvironment.getApplication();
+        ToastSchedulerTest.resetScheduler();
+
+        ToastDispatcher.setDedupeWindow(ToastDispatcher.DEFAULT_DEDUPE_WINDOW);
+        ToastDispatcher.setRateLimit(ToastDispatcher.DEFAULT_MAX_RATE,
+                ToastDispatcher.DEFAULT_RATE_PERIOD);
+        ToastDispatcher.resetCounts();
+    }
+
+    @After
+    public void tearDown() {
+        ToastSchedulerTest.resetScheduler();
+    }
+
+    /**
+     * Returns a new request with the supplied type and text.
+     *
+     * @param type The type of the toast.
+     * @param text The text to be shown.
+     *
+     * @return The new request with the supplied type and text.
+     */
+    private static ToastRequest request(int type, String text) {
+        return new ToastRequest.Builder().setType(type).setText(text).build();
+    }
+
+    /**
+     * Advance the clock by the supplied time.
+     *
+     * @param millis The time in milliseconds.
+     */
+    private static void advance(long millis) {
+        Shadows.shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(millis));
+    }
+
+    @Test
+    public void identicalRequestsAreMerged() {
+        Assert.assertTrue(ToastDispatcher.accept(request(ToastRequest.TYPE_DEFAULT, "Toast")));
+        Assert.assertFalse(ToastDispatcher.accept(request(ToastRequest.TYPE_DEFAULT, "Toast")));
+        Assert.assertEquals(1, ToastDispatcher.getMergedCount());
+    }
+
+    @Test
+    public void requestsWithEqualOptionsAreMerged() {
+        Assert.assertTrue(ToastDispatcher.accept(new ToastRequest.Builder().setText("Toast")
+                .setOptions(new ToastOptions.Builder().setTextSize(20).build()).build()));
+        Assert.assertFalse(ToastDispatcher.accept(new ToastRequest.Builder().setText("Toast")
+                .setOptions(new ToastOptions.Builder().setTextSize(20).build()).build()));
+        Assert.assertTrue(ToastDispatcher.accept(new ToastRequest.Builder().setText("Toast")
+                .setOptions(new ToastOptions.Builder().setTextSize(24).build()).build()));
+    }
+
+    @Test
+    public void differentRequestsAreNotMerged() {
+        Assert.assertTrue(ToastDispatcher.accept(request(ToastRequest.TYPE_DEFAULT, "Toast")));
+        Assert.assertTrue(ToastDispatcher.accept(request(ToastRequest.TYPE_DEFAULT, "Hint")));
+        Assert.assertTrue(ToastDispatcher.accept(request(ToastRequest.TYPE_ERROR, "Toast")));
+        Assert.assertEquals(0, ToastDispatcher.getMergedCount());
+    }
+
+    @Test
+    public void identicalRequestsAreShownAfterWindow() {
+        Assert.assertTrue(ToastDispatcher.accept(request(ToastRequest.TYPE_DEFAULT, "Toast")));
+        advance(ToastDispatcher.DEFAULT_DEDUPE_WINDOW);
+        Assert.assertTrue(ToastDispatcher.accept(request(ToastRequest.TYPE_DEFAULT, "Toast")));
+    }
+
+    @Test
+    public void identicalRequestsAreShownWithoutWindow() {
+        ToastDispatcher.setDedupeWindow(0);
+
+        Assert.assertTrue(ToastDispatcher.accept(request(ToastRequest.TYPE_DEFAULT, "Toast")));
+        Assert.assertTrue(ToastDispatcher.accept(request(ToastRequest.TYPE_DEFAULT, "Toast")));
+    }
+
+    @Test
+    public void forgottenRequestsAreNotMerged() {
+        Assert.assertTrue(ToastDispatcher.accept(request(ToastRequest.TYPE_DEFAULT, "Toast")));
+        ToastDispatcher.forget(request(ToastRequest.TYPE_DEFAULT, "Toast"));
+        Assert.assertTrue(ToastDispatcher.accept(request(ToastRequest.TYPE_DEFAULT, "Toast")));
+    }
+
+    @Test
+    public void requestsAreRateLimitedForEachCategory() {
+        ToastDispatcher.setDedupeWindow(0);
+        ToastDispatcher.setRateLimit(2, 1000);
+
+        Assert.assertTrue(ToastDispatcher.accept(request(ToastRequest.TYPE_DEFAULT, "1")));
+        Assert.assertTrue(ToastDispatcher.accept(request(ToastRequest.TYPE_DEFAULT, "2")));
+        Assert.assertFalse(ToastDispatcher.accept(request(ToastRequest.TYPE_DEFAULT, "3")));
+        Assert.assertEquals(1, ToastDispatcher.getDroppedCount());
+
+        Assert.assertTrue(ToastDispatcher.accept(request(ToastRequest.TYPE_ERROR, "1")));
+        Assert.assertTrue(ToastDispatcher.accept(new ToastRequest.Builder()
+                .setText("1").setHint(true).build()));
+        Assert.assertTrue(ToastDispatcher.accept(new ToastRequest.Builder()
+                .setText("3").setKey("key").build()));
+
+        advance(1000);
+        Assert.assertTrue(ToastDispatcher.accept(request(ToastRequest.TYPE_DEFAULT, "3")));
+    }
+
+    @Test
+    public void rejectedRequestsAreForgotten() {
+        ToastDispatcher.setRateLimit(0, 0);
+        ToastScheduler.setCapacity(1);
+        ToastScheduler.setDropPolicy(ToastScheduler.POLICY_REJECT);
+
+        long rejected = ToastScheduler.getRejectedCount();
+        Assert.assertTrue(ToastDispatcher.show(mContext,
+                request(ToastRequest.TYPE_DEFAULT, "Shown")));
+        Assert.assertTrue(ToastDispatcher.show(mContext,
+                request(ToastRequest.TYPE_DEFAULT, "Queued")));
+        Assert.assertFalse(ToastDispatcher.show(mContext,
+                request(ToastRequest.TYPE_DEFAULT, "Rejected")));
+        Assert.assertFalse(ToastDispatcher.show(mContext,
+                request(ToastRequest.TYPE_DEFAULT, "Rejected")));
+
+        Assert.assertEquals(0, ToastDispatcher.getMergedCount());
+        Assert.assertEquals(rejected + 2, ToastScheduler.getRejectedCount());
+        Assert.assertEquals(2, ToastDispatcher.getShownCount());
+    }
+}
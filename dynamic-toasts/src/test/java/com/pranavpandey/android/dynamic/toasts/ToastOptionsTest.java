@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts;
+
+import android.content.Context;
+import android.graphics.Color;
+import android.graphics.drawable.ColorDrawable;
+
+import androidx.core.content.ContextCompat;
+
+import com.pranavpandey.android.dynamic.toasts.internal.ToastStyle;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+/**
+ * Tests for the {@link ToastOptions}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ToastOptionsTest {
+
+    /**
+     * Returns a style with the supplied text size.
+     *
+     * @param textSize The text size for the style.
+     *
+     * @return The style with the supplied text size.
+     */
+    private static ToastStyle style(int textSize) {
+        return new ToastStyle.Builder()
+                .setDefaultTintColor(Color.WHITE)
+                .setDefaultBackgroundColor(Color.DKGRAY)
+                .setTextSize(textSize)
+                .build();
+    }
+
+    @Test
+    public void mergeWithoutValuesReturnsStyle() {
+        ToastStyle style = style(14);
+
+        Assert.assertSame(style, new ToastOptions.Builder().build().merge(style));
+    }
+
+    @Test
+    public void mergeOverridesSuppliedValues() {
+        ToastStyle style = style(14);
+        ToastStyle merged = new ToastOptions.Builder()
+                .setDefaultTintColor(Color.RED)
+                .setDefaultBackgroundColor(null)
+                .build().merge(style);
+
+        Assert.assertEquals(Integer.valueOf(Color.RED), merged.getDefaultTintColor());
+        Assert.assertNull(merged.getDefaultBackgroundColor());
+        Assert.assertEquals(14, merged.getTextSize());
+    }
+
+    @Test
+    public void mergeKeepsLastTwoStyles() {
+        ToastOptions options = new ToastOptions.Builder().setTextSize(20).build();
+        ToastStyle first = style(14);
+        ToastStyle second = style(16);
+
+        ToastStyle mergedFirst = options.merge(first);
+        ToastStyle mergedSecond = options.merge(second);
+
+        Assert.assertEquals(20, mergedFirst.getTextSize());
+        Assert.assertNotSame(mergedFirst, mergedSecond);
+        for (int i = 0; i < 4; i++) {
+            Assert.assertSame(mergedFirst, options.merge(first));
+            Assert.assertSame(mergedSecond, options.merge(second));
+        }
+    }
+
+    @Test
+    public void mergeDropsLeastRecentlyUsedStyle() {
+        ToastOptions options = new ToastOptions.Builder().setTextSize(20).build();
+        ToastStyle first = style(14);
+        ToastStyle second = style(16);
+        ToastStyle third = style(18);
+
+        ToastStyle mergedFirst = options.merge(first);
+        ToastStyle mergedSecond = options.merge(second);
+        options.merge(first);
+        options.merge(third);
+
+        Assert.assertSame(mergedFirst, options.merge(first));
+        Assert.assertNotSame(mergedSecond, options.merge(second));
+    }
+
+    @Test
+    public void equalsComparesValues() {
+        ToastOptions options = new ToastOptions.Builder()
+                .setDefaultTintColor(Color.RED).setTextSize(20).build();
+        ToastOptions same = new ToastOptions.Builder()
+                .setDefaultTintColor(Color.RED).setTextSize(20).build();
+
+        Assert.assertEquals(options, same);
+        Assert.assertEquals(options.hashCode(), same.hashCode());
+        Assert.assertNotEquals(options, new ToastOptions.Builder()
+                .setDefaultTintColor(Color.BLUE).setTextSize(20).build());
+        Assert.assertNotEquals(options, new ToastOptions.Builder()
+                .setTextSize(20).build());
+    }
+
+    @Test
+    public void equalsDistinguishesNullValues() {
+        Assert.assertNotEquals(new ToastOptions.Builder().build(),
+                new ToastOptions.Builder().setDefaultTintColor(null).build());
+    }
+
+    @Test
+    public void equalsComparesDrawableStates() {
+        Context context = RuntimeEnvironment.getApplication();
+        ToastOptions options = new ToastOptions.Builder().setToastBackground(
+                ContextCompat.getDrawable(context, R.drawable.adt_hint_background)).build();
+        ToastOptions same = new ToastOptions.Builder().setToastBackground(
+                ContextCompat.getDrawable(context, R.drawable.adt_hint_background)).build();
+
+        Assert.assertEquals(options, same);
+        Assert.assertEquals(options.hashCode(), same.hashCode());
+        Assert.assertNotEquals(options, new ToastOptions.Builder()
+                .setToastBackground(new ColorDrawable(Color.RED)).build());
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts;
+
+import android.content.Context;
+import android.os.Looper;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.Shadows;
+import org.robolectric.shadows.ShadowToast;
+
+import java.time.Duration;
+
+/**
+ * Tests for the {@link ToastScheduler}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ToastSchedulerTest {
+
+    /**
+     * Time in milliseconds to wait for a short toast to hide.
+     */
+    private static final long TIMEOUT = 2500;
+
+    /**
+     * Context used to show the toasts.
+     */
+    private Context mContext;
+
+    /**
+     * Reset the scheduler to its default state.
+     */
+    static void resetScheduler() {
+        ToastScheduler.reset();
+        ToastScheduler.setCapacity(ToastScheduler.DEFAULT_CAPACITY);
+        ToastScheduler.setDropPolicy(ToastScheduler.POLICY_DROP_LOWEST);
+        ToastScheduler.setPriority(ToastRequest.TYPE_ERROR, 3);
+        ToastScheduler.setPriority(ToastRequest.TYPE_WARNING, 2);
+        ToastScheduler.setPriority(ToastRequest.TYPE_DEFAULT, 1);
+        ToastScheduler.setPriority(ToastRequest.TYPE_SUCCESS, 0);
+        ShadowToast.reset();
+    }
+
+    @Before
+    public void setUp() {
+        mContext = RuntimeEnvironment.getApplication();
+        resetScheduler();
+    }
+
+    @After
+    public void tearDown() {
+        DynamicToast.Config.getInstance().reset();
+        resetScheduler();
+    }
+
+    /**
+     * Submit a request with the supplied type, text and key.
+     *
+     * @param type The type of the toast.
+     * @param text The text to be shown.
+     * @param key The key to replace the previous request.
+     *
+     * @return {@code true} if the request has been queued or shown.
+     */
+    private boolean submit(int type, String text, String key) {
+        return ToastScheduler.submit(mContext, new ToastRequest.Builder()
+                .setType(type).setText(text).setKey(key).build());
+    }
+
+    /**
+     * Submit a request with the supplied type and text.
+     *
+     * @param type The type of the toast.
+     * @param text The text to be shown.
+     *
+     * @return {@code true} if the request has been queued or shown.
+     */
+    private boolean submit(int type, String text) {
+        return submit(type, text, null);
+    }
+
+    /**
+     * Returns the text of the toast shown last.
+     *
+     * @return The text of the toast shown last.
+     */
+    private static String getShownText() {
+        Toast toast = ShadowToast.getLatestToast();
+        Assert.assertNotNull(toast);
+
+        TextView text = toast.getView().findViewById(R.id.adt_toast_text);
+        return text.getText().toString();
+    }
+
+    /**
+     * Wait for the current toast to hide, so that the next toast will be shown.
+     */
+    private static void hide() {
+        Shadows.shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(TIMEOUT));
+    }
+
+    @Test
+    public void firstRequestIsShown() {
+        Assert.assertTrue(submit(ToastRequest.TYPE_DEFAULT, "Shown"));
+        Assert.assertEquals(0, ToastScheduler.getPendingCount());
+        Assert.assertEquals(1, ShadowToast.shownToastCount());
+        Assert.assertEquals("Shown", getShownText());
+    }
+
+    @Test
+    public void requestsAreShownByPriority() {
+        submit(ToastRequest.TYPE_DEFAULT, "Shown");
+        submit(ToastRequest.TYPE_SUCCESS, "Success");
+        submit(ToastRequest.TYPE_DEFAULT, "Default");
+        submit(ToastRequest.TYPE_ERROR, "Error");
+        Assert.assertEquals(3, ToastScheduler.getPendingCount());
+
+        hide();
+        Assert.assertEquals("Error", getShownText());
+        hide();
+        Assert.assertEquals("Default", getShownText());
+        hide();
+        Assert.assertEquals("Success", getShownText());
+        Assert.assertEquals(0, ToastScheduler.getPendingCount());
+    }
+
+    @Test
+    public void dropOldestPolicy() {
+        ToastScheduler.setCapacity(2);
+        ToastScheduler.setDropPolicy(ToastScheduler.POLICY_DROP_OLDEST);
+        long dropped = ToastScheduler.getDroppedCount();
+
+        submit(ToastRequest.TYPE_DEFAULT, "Shown");
+        submit(ToastRequest.TYPE_ERROR, "Oldest");
+        submit(ToastRequest.TYPE_DEFAULT, "Queued");
+        Assert.assertTrue(submit(ToastRequest.TYPE_SUCCESS, "Newest"));
+
+        Assert.assertEquals(2, ToastScheduler.getPendingCount());
+        Assert.assertEquals(dropped + 1, ToastScheduler.getDroppedCount());
+
+        hide();
+        Assert.assertEquals("Queued", getShownText());
+        hide();
+        Assert.assertEquals("Newest", getShownText());
+    }
+
+    @Test
+    public void dropLowestPolicy() {
+        ToastScheduler.setCapacity(2);
+        ToastScheduler.setDropPolicy(ToastScheduler.POLICY_DROP_LOWEST);
+        long dropped = ToastScheduler.getDroppedCount();
+
+        submit(ToastRequest.TYPE_DEFAULT, "Shown");
+        submit(ToastRequest.TYPE_DEFAULT, "First");
+        submit(ToastRequest.TYPE_DEFAULT, "Second");
+        Assert.assertTrue(submit(ToastRequest.TYPE_ERROR, "Error"));
+        Assert.assertFalse(submit(ToastRequest.TYPE_SUCCESS, "Success"));
+
+        Assert.assertEquals(2, ToastScheduler.getPendingCount());
+        Assert.assertEquals(dropped + 2, ToastScheduler.getDroppedCount());
+
+        hide();
+        Assert.assertEquals("Error", getShownText());
+        hide();
+        Assert.assertEquals("First", getShownText());
+    }
+
+    @Test
+    public void rejectPolicy() {
+        ToastScheduler.setCapacity(1);
+        ToastScheduler.setDropPolicy(ToastScheduler.POLICY_REJECT);
+        long rejected = ToastScheduler.getRejectedCount();
+
+        submit(ToastRequest.TYPE_DEFAULT, "Shown");
+        submit(ToastRequest.TYPE_DEFAULT, "Queued");
+        Assert.assertFalse(submit(ToastRequest.TYPE_ERROR, "Rejected"));
+
+        Assert.assertEquals(1, ToastScheduler.getPendingCount());
+        Assert.assertEquals(rejected + 1, ToastScheduler.getRejectedCount());
+
+        hide();
+        Assert.assertEquals("Queued", getShownText());
+    }
+
+    @Test
+    public void latestRequestUpdatesShownToast() {
+        submit(ToastRequest.TYPE_DEFAULT, "First", "key");
+        Toast toast = ShadowToast.getLatestToast();
+
+        Assert.assertTrue(submit(ToastRequest.TYPE_DEFAULT, "Second", "key"));
+        Assert.assertEquals(0, ToastScheduler.getPendingCount());
+        Assert.assertSame(toast, ShadowToast.getLatestToast());
+        Assert.assertEquals("Second", getShownText());
+    }
+
+    @Test
+    public void latestRequestReplacesPendingRequest() {
+        submit(ToastRequest.TYPE_DEFAULT, "Shown");
+        submit(ToastRequest.TYPE_DEFAULT, "First", "key");
+        Assert.assertTrue(submit(ToastRequest.TYPE_DEFAULT, "Second", "key"));
+        Assert.assertEquals(1, ToastScheduler.getPendingCount());
+
+        hide();
+        Assert.assertEquals("Second", getShownText());
+        hide();
+        Assert.assertEquals(0, ToastScheduler.getPendingCount());
+    }
+
+    @Test
+    public void clearRemovesPendingRequests() {
+        submit(ToastRequest.TYPE_DEFAULT, "Shown");
+        submit(ToastRequest.TYPE_DEFAULT, "First");
+        submit(ToastRequest.TYPE_DEFAULT, "Second");
+        ToastScheduler.clear();
+
+        Assert.assertEquals(0, ToastScheduler.getPendingCount());
+        hide();
+        Assert.assertEquals("Shown", getShownText());
+    }
+
+    @Test
+    public void scheduledToastsAreShownByPriority() {
+        DynamicToast.Config.getInstance().setSchedule(true).apply();
+
+        DynamicToast.make(mContext, "Shown").show();
+        DynamicToast.makeSuccess(mContext, "Success").show();
+        DynamicToast.makeError(mContext, "Error").show();
+        Assert.assertEquals(2, ToastScheduler.getPendingCount());
+        Assert.assertEquals("Shown", getShownText());
+
+        hide();
+        Assert.assertEquals("Error", getShownText());
+        hide();
+        Assert.assertEquals("Success", getShownText());
+        Assert.assertEquals(0, ToastScheduler.getPendingCount());
+    }
+
+    @Test
+    public void cancelRemovesScheduledToast() {
+        DynamicToast.Config.getInstance().setSchedule(true).apply();
+
+        DynamicToast.make(mContext, "Shown").show();
+        Toast toast = DynamicToast.make(mContext, "Cancelled");
+        toast.show();
+        Assert.assertEquals(1, ToastScheduler.getPendingCount());
+
+        toast.cancel();
+        Assert.assertEquals(0, ToastScheduler.getPendingCount());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.content.Context;
+import android.graphics.drawable.Drawable;
+
+import com.pranavpandey.android.dynamic.toasts.R;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+/**
+ * Tests for the {@link ToastBackgroundCache}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ToastBackgroundCacheTest {
+
+    /**
+     * Maximum number of backgrounds to be cached.
+     */
+    private static final int MAX_SIZE = 8;
+
+    /**
+     * Context used to get the backgrounds.
+     */
+    private Context mContext;
+
+    @Before
+    public void setUp() {
+        mContext = RuntimeEnvironment.getApplication();
+        ToastBackgroundCache.clear();
+    }
+
+    /**
+     * Get the background colorized with the color for the supplied index.
+     *
+     * @param index The index of the color.
+     *
+     * @return The background colorized with the color for the supplied index.
+     */
+    private Drawable get(int index) {
+        return ToastBackgroundCache.get(mContext,
+                R.drawable.adt_toast_background, null, 0xFF000000 | index);
+    }
+
+    @Test
+    public void getCachesBackground() {
+        long hits = ToastBackgroundCache.getHitCount();
+        long misses = ToastBackgroundCache.getMissCount();
+
+        Assert.assertNotNull(get(0));
+        Assert.assertNotNull(get(0));
+        Assert.assertEquals(hits + 1, ToastBackgroundCache.getHitCount());
+        Assert.assertEquals(misses + 1, ToastBackgroundCache.getMissCount());
+        Assert.assertEquals(1, ToastBackgroundCache.size());
+    }
+
+    @Test
+    public void getSkipsNullColor() {
+        Assert.assertNotNull(ToastBackgroundCache.get(mContext,
+                R.drawable.adt_toast_background, null, null));
+        Assert.assertEquals(0, ToastBackgroundCache.size());
+    }
+
+    @Test
+    public void sizeIsBounded() {
+        for (int i = 0; i < MAX_SIZE * 2; i++) {
+            get(i);
+
+            Assert.assertTrue(ToastBackgroundCache.size() <= MAX_SIZE);
+        }
+
+        Assert.assertEquals(MAX_SIZE, ToastBackgroundCache.size());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        for (int i = 0; i < MAX_SIZE; i++) {
+            get(i);
+        }
+
+        get(0);
+        get(MAX_SIZE);
+
+        long hits = ToastBackgroundCache.getHitCount();
+        get(0);
+        Assert.assertEquals(hits + 1, ToastBackgroundCache.getHitCount());
+
+        long misses = ToastBackgroundCache.getMissCount();
+        get(1);
+        Assert.assertEquals(misses + 1, ToastBackgroundCache.getMissCount());
+    }
+
+    @Test
+    public void libraryBackgroundsAreDefault() {
+        Assert.assertTrue(ToastBackgroundDrawable.isDefault(
+                mContext, ToastViewPool.TYPE_TOAST));
+        Assert.assertTrue(ToastBackgroundDrawable.isDefault(
+                mContext, ToastViewPool.TYPE_HINT));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.graphics.Color;
+
+import com.pranavpandey.android.dynamic.util.DynamicColorUtils;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+/**
+ * Tests for the {@link ToastColorCache}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ToastColorCacheTest {
+
+    /**
+     * Colors to be checked, including the colors with the sign bit set.
+     */
+    private static final int[] COLORS = { Color.WHITE, Color.BLACK, Color.TRANSPARENT,
+            0xFF2196F3, 0xFFF44336, 0xFF4CAF50, 0xFFFFEB3B, 0x80FFFFFF, 0x00000001 };
+
+    @Before
+    public void setUp() {
+        ToastColorCache.clear();
+    }
+
+    @Test
+    public void tintColorMatchesUtils() {
+        for (int pass = 0; pass < 2; pass++) {
+            for (int color : COLORS) {
+                Assert.assertEquals(DynamicColorUtils.getTintColor(color),
+                        ToastColorCache.getTintColor(color));
+            }
+        }
+    }
+
+    @Test
+    public void contrastColorMatchesUtils() {
+        for (int pass = 0; pass < 2; pass++) {
+            for (int color : COLORS) {
+                for (int contrastWith : COLORS) {
+                    Assert.assertEquals(DynamicColorUtils.getContrastColor(color, contrastWith),
+                            ToastColorCache.getContrastColor(color, contrastWith));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void colorsMatchUtilsBeyondCapacity() {
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < 512; i++) {
+                int color = 0xFF000000 | (i * 0x010305);
+                Assert.assertEquals(DynamicColorUtils.getTintColor(color),
+                        ToastColorCache.getTintColor(color));
+                Assert.assertEquals(DynamicColorUtils.getContrastColor(color, Color.WHITE),
+                        ToastColorCache.getContrastColor(color, Color.WHITE));
+            }
+        }
+    }
+
+    @Test
+    public void colorsMatchUtilsAfterClear() {
+        int color = 0xFF2196F3;
+        ToastColorCache.getTintColor(color);
+        ToastColorCache.getContrastColor(color, Color.BLACK);
+        ToastColorCache.clear();
+
+        Assert.assertEquals(DynamicColorUtils.getTintColor(color),
+                ToastColorCache.getTintColor(color));
+        Assert.assertEquals(DynamicColorUtils.getContrastColor(color, Color.BLACK),
+                ToastColorCache.getContrastColor(color, Color.BLACK));
+    }
+}
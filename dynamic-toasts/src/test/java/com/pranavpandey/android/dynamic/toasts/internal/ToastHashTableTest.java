@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ToastHashTable}.
+ */
+public class ToastHashTableTest {
+
+    @Test
+    public void rejectsInvalidCapacity() {
+        Assert.assertThrows(IllegalArgumentException.class, new Assert.ThrowingRunnable() {
+            @Override
+            public void run() {
+                new ToastHashTable(12);
+            }
+        });
+        Assert.assertThrows(IllegalArgumentException.class, new Assert.ThrowingRunnable() {
+            @Override
+            public void run() {
+                new ToastHashTable(1);
+            }
+        });
+    }
+
+    @Test
+    public void putAndFind() {
+        ToastHashTable table = new ToastHashTable(16);
+        for (long key = 0; key < 8; key++) {
+            table.put(key << 32 | key, key * 10);
+        }
+
+        for (long key = 0; key < 8; key++) {
+            int index = table.indexOf(key << 32 | key);
+            Assert.assertTrue(index >= 0);
+            Assert.assertEquals(key * 10, table.valueAt(index));
+        }
+
+        Assert.assertEquals(-1, table.indexOf(100));
+    }
+
+    @Test
+    public void putReplacesValue() {
+        ToastHashTable table = new ToastHashTable(16);
+        int index = table.put(42, 1);
+
+        Assert.assertEquals(index, table.put(42, 2));
+        Assert.assertEquals(2, table.valueAt(table.indexOf(42)));
+
+        table.setValueAt(index, 3);
+        Assert.assertEquals(3, table.valueAt(table.indexOf(42)));
+    }
+
+    @Test
+    public void putReusesExpiredSlot() {
+        ToastHashTable table = new ToastHashTable(4);
+        for (long key = 1; key <= 4; key++) {
+            table.put(key, key * 10);
+        }
+
+        table.put(5, 50, 10);
+
+        Assert.assertEquals(-1, table.indexOf(1));
+        Assert.assertEquals(50, table.valueAt(table.indexOf(5)));
+        for (long key = 2; key <= 4; key++) {
+            Assert.assertEquals(key * 10, table.valueAt(table.indexOf(key)));
+        }
+    }
+
+    @Test
+    public void putFindsKeyBeforeReusingExpiredSlot() {
+        long key = 2;
+        long home = new ToastHashTable(4).put(1, 0);
+        while (new ToastHashTable(4).put(key, 0) != home) {
+            key++;
+        }
+
+        ToastHashTable table = new ToastHashTable(4);
+        Assert.assertEquals(home, table.put(1, 10));
+        int index = table.put(key, 20);
+        Assert.assertNotEquals(home, index);
+
+        Assert.assertEquals(index, table.put(key, 30, 10));
+        Assert.assertEquals(index, table.indexOf(key));
+        Assert.assertEquals(30, table.valueAt(index));
+        Assert.assertEquals(10, table.valueAt(table.indexOf(1)));
+    }
+
+    @Test
+    public void putReplacesEntryWhenFull() {
+        ToastHashTable table = new ToastHashTable(4);
+        for (long key = 1; key <= 4; key++) {
+            table.put(key, key);
+        }
+
+        table.put(5, 5);
+
+        int found = 0;
+        for (long key = 1; key <= 4; key++) {
+            if (table.indexOf(key) >= 0) {
+                found++;
+            }
+        }
+
+        Assert.assertEquals(3, found);
+        Assert.assertEquals(5, table.valueAt(table.indexOf(5)));
+    }
+
+    @Test
+    public void clear() {
+        ToastHashTable table = new ToastHashTable(8);
+        table.put(1, 1);
+        table.put(2, 2);
+        table.clear();
+
+        Assert.assertEquals(-1, table.indexOf(1));
+        Assert.assertEquals(-1, table.indexOf(2));
+        Assert.assertEquals(8, table.capacity());
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.content.Context;
+import android.graphics.Color;
+import android.graphics.drawable.ColorDrawable;
+import android.graphics.drawable.Drawable;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+/**
+ * Tests for the {@link ToastIconCache}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ToastIconCacheTest {
+
+    /**
+     * Maximum number of bytes for all the cached bitmaps.
+     */
+    private static final int MAX_BYTES = 512 * 1024;
+
+    /**
+     * Size of the icons in pixels.
+     */
+    private static final int SIZE = 48;
+
+    /**
+     * Number of bytes for each cached icon.
+     */
+    private static final int ICON_BYTES = SIZE * SIZE * 4;
+
+    /**
+     * Maximum number of icons that fit in the cache.
+     */
+    private static final int MAX_ICONS = MAX_BYTES / ICON_BYTES;
+
+    /**
+     * Context used to get the icons.
+     */
+    private Context mContext;
+
+    /**
+     * Icon to be cached.
+     */
+    private Drawable mIcon;
+
+    @Before
+    public void setUp() {
+        mContext = RuntimeEnvironment.getApplication();
+        mIcon = new ColorDrawable(Color.WHITE);
+        ToastIconCache.clear();
+    }
+
+    /**
+     * Get the icon tinted with the color for the supplied index.
+     *
+     * @param index The index of the color.
+     *
+     * @return The icon tinted with the color for the supplied index.
+     */
+    private Drawable get(int index) {
+        return ToastIconCache.get(mContext, mIcon, 0xFF000000 | index, SIZE, SIZE);
+    }
+
+    @Test
+    public void getCachesIcon() {
+        long hits = ToastIconCache.getHitCount();
+        long misses = ToastIconCache.getMissCount();
+
+        Assert.assertNotNull(get(0));
+        Assert.assertNotNull(get(0));
+        Assert.assertEquals(hits + 1, ToastIconCache.getHitCount());
+        Assert.assertEquals(misses + 1, ToastIconCache.getMissCount());
+        Assert.assertEquals(1, ToastIconCache.size());
+    }
+
+    @Test
+    public void getSkipsEmptySize() {
+        Assert.assertNull(ToastIconCache.get(mContext, mIcon, null, 0, SIZE));
+        Assert.assertEquals(0, ToastIconCache.size());
+    }
+
+    @Test
+    public void bytesAreBounded() {
+        for (int i = 0; i < MAX_ICONS * 2; i++) {
+            get(i);
+
+            Assert.assertTrue(ToastIconCache.size() * ICON_BYTES <= MAX_BYTES);
+        }
+
+        Assert.assertEquals(MAX_ICONS, ToastIconCache.size());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        for (int i = 0; i < MAX_ICONS; i++) {
+            get(i);
+        }
+
+        get(0);
+        get(MAX_ICONS);
+
+        long hits = ToastIconCache.getHitCount();
+        get(0);
+        Assert.assertEquals(hits + 1, ToastIconCache.getHitCount());
+
+        long misses = ToastIconCache.getMissCount();
+        get(1);
+        Assert.assertEquals(misses + 1, ToastIconCache.getMissCount());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-2022 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.toasts.internal;
+
+import android.content.Context;
+import android.text.SpannableString;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+/**
+ * Tests for the {@link ToastMeasureCache}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ToastMeasureCacheTest {
+
+    /**
+     * Maximum number of sizes to be cached.
+     */
+    private static final int MAX_SIZE = 32;
+
+    /**
+     * View holder to be measured.
+     */
+    private ToastViewPool.Holder mHolder;
+
+    @Before
+    public void setUp() {
+        Context context = RuntimeEnvironment.getApplication();
+        mHolder = ToastViewPool.obtain(context, ToastViewPool.TYPE_TOAST, false, false, true);
+        ToastMeasureCache.clear();
+    }
+
+    @Test
+    public void measureCachesSize() {
+        mHolder.getText().setText("Dynamic Toasts");
+        long size = ToastMeasureCache.measure(mHolder.getView());
+
+        Assert.assertEquals(size, ToastMeasureCache.measure(mHolder.getView()));
+        Assert.assertEquals(1, ToastMeasureCache.size());
+        Assert.assertTrue(ToastMeasureCache.getWidth(size) > 0);
+        Assert.assertTrue(ToastMeasureCache.getHeight(size) > 0);
+    }
+
+    @Test
+    public void measureCachesToastViewSize() {
+        ToastView view = new ToastView(RuntimeEnvironment.getApplication(),
+                ToastViewPool.TYPE_TOAST);
+        view.setText("Dynamic Toasts");
+        long size = ToastMeasureCache.measure(view);
+
+        Assert.assertEquals(size, ToastMeasureCache.measure(view));
+        Assert.assertEquals(1, ToastMeasureCache.size());
+        Assert.assertTrue(ToastMeasureCache.getWidth(size) > 0);
+    }
+
+    @Test
+    public void measureSkipsSpannedText() {
+        mHolder.getText().setText(new SpannableString("Dynamic Toasts"));
+        ToastMeasureCache.measure(mHolder.getView());
+
+        Assert.assertEquals(0, ToastMeasureCache.size());
+    }
+
+    @Test
+    public void sizeIsBounded() {
+        for (int i = 0; i < MAX_SIZE * 2; i++) {
+            mHolder.getText().setText("Dynamic Toasts " + i);
+            ToastMeasureCache.measure(mHolder.getView());
+
+            Assert.assertTrue(ToastMeasureCache.size() <= MAX_SIZE);
+        }
+
+        Assert.assertEquals(MAX_SIZE, ToastMeasureCache.size());
+    }
+
+    @Test
+    public void clear() {
+        mHolder.getText().setText("Dynamic Toasts");
+        ToastMeasureCache.measure(mHolder.getView());
+        ToastMeasureCache.clear();
+
+        Assert.assertEquals(0, ToastMeasureCache.size());
+    }
+}